@@ -23,6 +23,8 @@ dependencies {
     runtimeOnly(libs.jandex) { because("faster CDI bean scanning") }
     runtimeOnly(libs.log4j.core)
     runtimeOnly(libs.log4j.slf4j.impl)
+
+    testImplementation(libs.junit.jupiter)
 }
 
 java {
@@ -31,6 +33,10 @@ java {
     }
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
 application {
     mainClass.set("org.javacord.bot.Main")
 }
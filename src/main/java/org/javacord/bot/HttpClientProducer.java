@@ -0,0 +1,83 @@
+package org.javacord.bot;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.apache.logging.log4j.Logger;
+import org.javacord.bot.util.MetricsRegistry;
+import org.javacord.bot.util.http.HttpMetricsEventListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Produces the HTTP client that is shared by all outbound fetches, so they share one connection pool and dispatcher.
+ *
+ * <p>Responses are cached on disk, so unchanged documentation sources are only revalidated instead of downloaded
+ * again. The cache directory can be configured with the {@value #CACHE_DIRECTORY_PROPERTY} system property.
+ */
+@ApplicationScoped
+public class HttpClientProducer {
+    /**
+     * The system property to configure the directory of the HTTP cache.
+     */
+    public static final String CACHE_DIRECTORY_PROPERTY = "javacord.bot.httpCacheDirectory";
+
+    private static final long CACHE_SIZE = 64 * 1024 * 1024;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(30);
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    /**
+     * Produces the shared HTTP client.
+     *
+     * <p>The client is a singleton instead of application-scoped, as OkHttp's final methods cannot be proxied.
+     *
+     * @return The shared HTTP client.
+     */
+    @Produces
+    @Singleton
+    OkHttpClient produceHttpClient() {
+        Cache cache = new Cache(new File(System.getProperty(CACHE_DIRECTORY_PROPERTY, "http-cache")), CACHE_SIZE);
+        metrics.register("httpCache.requests", cache::requestCount);
+        metrics.register("httpCache.networkRequests", cache::networkCount);
+        metrics.register("httpCache.hits", cache::hitCount);
+        return new OkHttpClient.Builder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .readTimeout(READ_TIMEOUT)
+                .callTimeout(CALL_TIMEOUT)
+                .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES))
+                .eventListenerFactory(new HttpMetricsEventListener.Factory(metrics))
+                .cache(cache)
+                .build();
+    }
+
+    private void disposeHttpClient(@Disposes OkHttpClient httpClient) {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+        Cache cache = httpClient.cache();
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                logger
+                        .atWarn()
+                        .withThrowable(e)
+                        .log("Exception while closing the HTTP cache");
+            }
+        }
+    }
+}
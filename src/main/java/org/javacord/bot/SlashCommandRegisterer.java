@@ -3,14 +3,32 @@ package org.javacord.bot;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.interaction.SlashCommand;
 import org.javacord.api.interaction.SlashCommandBuilder;
+import org.javacord.bot.commands.slash.BaseSlashCommand;
+import org.javacord.bot.util.SlashCommandFingerprint;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Registers the slash commands globally on startup.
+ *
+ * <p>The registered commands are only overwritten if their definitions differ from ours, as overwriting is
+ * rate-limited and makes clients synchronize their commands again.
+ */
 @ApplicationScoped
 public class SlashCommandRegisterer {
     @Inject
@@ -22,16 +40,108 @@ public class SlashCommandRegisterer {
     @Inject
     List<SlashCommandBuilder> slashCommandBuilders;
 
+    @Inject
+    Instance<BaseSlashCommand> slashCommands;
+
+    /**
+     * The slash commands that are registered, once the registration has finished.
+     */
+    private final AtomicReference<CompletableFuture<Set<SlashCommand>>> registeredSlashCommands =
+            new AtomicReference<>(new CompletableFuture<>());
+
     void registerSlashCommands(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        CompletableFuture<Set<SlashCommand>> registration = registeredSlashCommands.get();
+        String definedFingerprint = getDefinedFingerprint();
+        discordApi
+                .getGlobalSlashCommands()
+                .thenApply(Optional::of)
+                .exceptionally(throwable -> {
+                    logger
+                            .atWarn()
+                            .withThrowable(throwable)
+                            .log("Exception while fetching the registered slash commands, overwriting them");
+                    return Optional.empty();
+                })
+                .thenCompose(registeredCommands -> {
+                    if (registeredCommands.isPresent()
+                            && getRegisteredFingerprint(registeredCommands.get()).equals(definedFingerprint)) {
+                        logger.info("Registered slash commands are up-to-date ({})", definedFingerprint);
+                        return completedFuture(registeredCommands.get());
+                    }
+                    logger.info("Overwriting the registered slash commands ({})", definedFingerprint);
+                    return discordApi
+                            .bulkOverwriteGlobalApplicationCommands(new HashSet<>(slashCommandBuilders))
+                            .thenApply(commands -> commands
+                                    .stream()
+                                    .filter(SlashCommand.class::isInstance)
+                                    .map(SlashCommand.class::cast)
+                                    .collect(toSet()));
+                })
+                .whenComplete((commands, throwable) -> {
+                    if (throwable == null) {
+                        registration.complete(commands);
+                        return;
+                    }
+                    logger
+                            .atError()
+                            .withThrowable(throwable)
+                            .log("Exception while registering slash commands");
+                    // fall back to whatever is registered
+                    fetchRegisteredSlashCommands(registration);
+                });
+    }
+
+    /**
+     * Gets the slash commands that are registered globally, including their ids.
+     *
+     * <p>The commands are captured once when the registration on startup has finished, so no further requests are
+     * necessary. If they could not be captured, they are fetched again on the next call.
+     *
+     * @return The registered slash commands.
+     */
+    public CompletableFuture<Set<SlashCommand>> getRegisteredSlashCommands() {
+        CompletableFuture<Set<SlashCommand>> commands = registeredSlashCommands.get();
+        if (commands.isCompletedExceptionally()) {
+            CompletableFuture<Set<SlashCommand>> retry = new CompletableFuture<>();
+            if (registeredSlashCommands.compareAndSet(commands, retry)) {
+                fetchRegisteredSlashCommands(retry);
+                commands = retry;
+            } else {
+                commands = registeredSlashCommands.get();
+            }
+        }
+        return commands.copy();
+    }
+
+    private void fetchRegisteredSlashCommands(CompletableFuture<Set<SlashCommand>> target) {
         discordApi
-                .bulkOverwriteGlobalApplicationCommands(new HashSet<>(slashCommandBuilders))
-                .whenComplete((__, throwable) -> {
-                    if (throwable != null) {
-                        logger
-                                .atError()
-                                .withThrowable(throwable)
-                                .log("Exception while registering slash commands");
+                .getGlobalSlashCommands()
+                .whenComplete((registeredCommands, throwable) -> {
+                    if (throwable == null) {
+                        target.complete(registeredCommands);
+                    } else {
+                        target.completeExceptionally(throwable);
                     }
                 });
     }
+
+    private String getDefinedFingerprint() {
+        SlashCommandFingerprint fingerprint = new SlashCommandFingerprint();
+        slashCommands.forEach(slashCommand -> slashCommand
+                .getAliases()
+                .forEach(alias -> fingerprint.addCommand(
+                        alias,
+                        slashCommand.getDescription().orElse(""),
+                        slashCommand.getOptions())));
+        return fingerprint.compute();
+    }
+
+    private static String getRegisteredFingerprint(Collection<SlashCommand> registeredCommands) {
+        SlashCommandFingerprint fingerprint = new SlashCommandFingerprint();
+        registeredCommands.forEach(registeredCommand -> fingerprint.addCommand(
+                registeredCommand.getName(),
+                registeredCommand.getDescription(),
+                registeredCommand.getOptions()));
+        return fingerprint.compute();
+    }
 }
@@ -4,18 +4,23 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
 import net.kautler.command.api.annotation.Alias;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.RestrictedTo;
+import org.apache.logging.log4j.Logger;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.api.interaction.SlashCommand;
 import org.javacord.bot.Constants;
+import org.javacord.bot.SlashCommandRegisterer;
 import org.javacord.bot.commands.text.HiddenTextCommand;
 import org.javacord.bot.listeners.TextCommandCleanupListener;
 import org.javacord.bot.restrictions.Before2023;
 import org.javacord.bot.util.JavacordIconProvider;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 @Alias("migrated/docs")
@@ -30,35 +35,70 @@ import java.util.Comparator;
 @Alias("migrated/setup")
 @Alias("migrated/wiki")
 @RestrictedTo(Before2023.class)
-@Asynchronous
 //TODO: After 2022 delete this class, and Before2023 restriction class
 public class MigratedToSlashCommandsNotifier implements HiddenTextCommand {
+    @Inject
+    Logger logger;
+
     @Inject
     JavacordIconProvider iconProvider;
 
+    @Inject
+    TextCommandCleanupListener cleanupListener;
+
+    @Inject
+    SlashCommandRegisterer slashCommandRegisterer;
+
+    /**
+     * The mentions and descriptions of the registered slash commands, sorted by name.
+     */
+    private volatile CompletableFuture<List<Map.Entry<String, String>>> slashCommandFields;
+
+    /**
+     * Gets the fields of the registered slash commands, they are created again if they could not be created before.
+     *
+     * @return The mentions and descriptions of the registered slash commands.
+     */
+    private CompletableFuture<List<Map.Entry<String, String>>> getSlashCommandFields() {
+        CompletableFuture<List<Map.Entry<String, String>>> fields = slashCommandFields;
+        if ((fields == null) || fields.isCompletedExceptionally()) {
+            fields = slashCommandRegisterer
+                    .getRegisteredSlashCommands()
+                    .thenApply(slashCommands -> slashCommands
+                            .stream()
+                            .sorted(Comparator.comparing(SlashCommand::getName))
+                            .map(slashCommand -> Map.entry(
+                                    String.format("</%s:%d>", slashCommand.getName(), slashCommand.getId()),
+                                    slashCommand.getDescription()))
+                            .collect(Collectors.toList()));
+            slashCommandFields = fields;
+        }
+        return fields;
+    }
+
     @Override
     public void execute(CommandContext<? extends Message> commandContext) {
         Message message = commandContext.getMessage();
 
-        EmbedBuilder embed = new EmbedBuilder()
-                .setThumbnail(iconProvider.getIcon())
-                .setColor(Constants.JAVACORD_ORANGE)
-                .setTitle("Migrated to Slash Commands")
-                .setDescription("This bot was migrated to slash commands, just type `/` to discover them");
-
-        message
-                .getApi()
-                .getGlobalSlashCommands()
-                .thenAccept(slashCommands -> slashCommands
-                        .stream()
-                        .sorted(Comparator.comparing(SlashCommand::getName))
-                        .forEachOrdered(slashCommand -> embed.addField(
-                                String.format("</%s:%d>", slashCommand.getName(), slashCommand.getId()),
-                                slashCommand.getDescription())
-                        ))
-                .join();
-
-        TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-        message.reply(embed).join();
+        getSlashCommandFields()
+                .thenCompose(fields -> {
+                    EmbedBuilder embed = new EmbedBuilder()
+                            .setThumbnail(iconProvider.getIcon())
+                            .setColor(Constants.JAVACORD_ORANGE)
+                            .setTitle("Migrated to Slash Commands")
+                            .setDescription("This bot was migrated to slash commands, just type `/` to discover them");
+                    fields.forEach(field -> embed.addField(field.getKey(), field.getValue()));
+                    TextCommandCleanupListener.insertResponseTracker(embed);
+                    return message.reply(embed);
+                })
+                .thenAccept(response -> cleanupListener.trackResponse(message, response))
+                .whenComplete((__, throwable) -> {
+                    if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while notifying about the migration to slash commands");
+                    }
+                });
     }
 }
@@ -1,20 +1,31 @@
 package org.javacord.bot.commands.slash;
 
+import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
 import net.kautler.command.api.slash.javacord.SlashCommandJavacord;
+import org.apache.logging.log4j.Logger;
 import org.javacord.api.entity.message.component.ActionRow;
 import org.javacord.api.entity.message.component.Button;
 import org.javacord.api.entity.message.component.SelectMenu;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.interaction.AutocompleteInteraction;
 import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
 import org.javacord.api.interaction.callback.InteractionImmediateResponseBuilder;
 import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
 import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
+import org.javacord.bot.util.CommandLimiter;
+import org.javacord.bot.util.Deadline;
+import org.javacord.bot.util.FailureEmbeds;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.javacord.api.entity.message.MessageFlag.EPHEMERAL;
 import static org.javacord.bot.listeners.PublishResponseListener.SHOW_TO_EVERYONE_AND_MENTION_ID;
 import static org.javacord.bot.listeners.PublishResponseListener.SHOW_TO_EVERYONE_ID;
@@ -24,6 +35,33 @@ public abstract class BaseSlashCommand implements SlashCommandJavacord {
     private static final String SLASH_SUFFIX = "Slash";
     private static final int SLASH_SUFFIX_LENGTH = SLASH_SUFFIX.length();
 
+    /**
+     * The maximum amount of autocomplete choices Discord accepts.
+     */
+    protected static final int MAX_CHOICES = 25;
+
+    /**
+     * The maximum length of the name and value of an autocomplete choice.
+     */
+    private static final int MAX_CHOICE_LENGTH = 100;
+
+    /**
+     * The system property to configure how long a response is waited for before it is deferred.
+     */
+    public static final String IMMEDIATE_RESPONSE_DEADLINE_PROPERTY = "javacord.bot.immediateResponseDeadline";
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    CommandLimiter commandLimiter;
+
+    /**
+     * How long a response is waited for to send it immediately, before it is deferred instead.
+     */
+    private final Duration immediateResponseDeadline =
+            Duration.parse(System.getProperty(IMMEDIATE_RESPONSE_DEADLINE_PROPERTY, "PT0.5S"));
+
     @Override
     public List<String> getAliases() {
         return SlashCommandJavacord
@@ -36,6 +74,87 @@ public abstract class BaseSlashCommand implements SlashCommandJavacord {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the autocomplete suggestions for the focused option of the given interaction.
+     *
+     * <p>Only options that are created as autocompletable need suggestions, so by default there are none.
+     *
+     * @param interaction The autocomplete interaction.
+     * @return The suggestions.
+     */
+    public List<SlashCommandOptionChoice> autocomplete(AutocompleteInteraction interaction) {
+        return List.of();
+    }
+
+    /**
+     * Converts suggested values to autocomplete choices, respecting Discord's limits.
+     *
+     * @param suggestions The suggested values.
+     * @return The autocomplete choices.
+     */
+    protected static List<SlashCommandOptionChoice> toChoices(List<String> suggestions) {
+        return suggestions
+                .stream()
+                .filter(suggestion -> suggestion.length() <= MAX_CHOICE_LENGTH)
+                .limit(MAX_CHOICES)
+                .map(suggestion -> SlashCommandOptionChoice.create(suggestion, suggestion))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Logs the exception if sending the given response fails.
+     *
+     * <p>Commands do not wait for their responses, so this is where failures end up instead of the command framework.
+     *
+     * @param response The response that is being sent.
+     */
+    protected void logExceptions(CompletableFuture<?> response) {
+        response.whenComplete((__, throwable) -> {
+            if (throwable != null) {
+                logger
+                        .atError()
+                        .withThrowable(throwable)
+                        .log("Exception while responding to /{} command", getAliases().get(0));
+            }
+        });
+    }
+
+    /**
+     * Responds with the embed of the given worker as soon as it is available.
+     *
+     * <p>If the embed is available within the immediate response deadline, it is sent as immediate response, which
+     * takes one request to Discord. Otherwise the response is deferred, so that the interaction does not expire, and
+     * updated with the embed once it is available. The worker gets the deadline of the command, after which its
+     * work is cancelled. If too many commands are executed already, an overload notice is sent instead. If the
+     * worker fails, an embed that describes the failure is sent, so the interaction is always answered.
+     *
+     * @param commandContext The command context of the interaction to respond to.
+     * @param worker         The worker that creates the embed to respond with before the given deadline.
+     */
+    protected void respond(CommandContext<? extends SlashCommandInteraction> commandContext,
+                           Function<Deadline, CompletableFuture<EmbedBuilder>> worker) {
+        CompletableFuture<EmbedBuilder> embed = commandLimiter
+                .execute(worker)
+                .exceptionally(throwable -> FailureEmbeds.forExpectedFailure(throwable).orElseGet(() -> {
+                    logger
+                            .atError()
+                            .withThrowable(throwable)
+                            .log("Exception while executing /{} command", getAliases().get(0));
+                    return FailureEmbeds.createErrorEmbed(throwable);
+                }));
+        logExceptions(embed
+                .thenApply(Optional::of)
+                .completeOnTimeout(Optional.empty(), immediateResponseDeadline.toMillis(), MILLISECONDS)
+                .thenCompose(readyEmbed -> {
+                    if (readyEmbed.isPresent()) {
+                        return sendResponse(commandContext, readyEmbed.get());
+                    }
+                    return sendResponseLater(commandContext)
+                            .thenCombine(embed, InteractionMessageBuilderBase::addEmbed)
+                            .thenCompose(updater -> updater.update().thenApply(__ -> updater));
+                }));
+    }
+
     protected CompletableFuture<InteractionOriginalResponseUpdater> sendResponse(
             CommandContext<? extends SlashCommandInteraction> commandContext, EmbedBuilder embed) {
         InteractionImmediateResponseBuilder responder = commandContext.getMessage().createImmediateResponder();
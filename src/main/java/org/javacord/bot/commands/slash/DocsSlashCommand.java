@@ -3,25 +3,22 @@ package org.javacord.bot.commands.slash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
+import org.javacord.api.interaction.AutocompleteInteraction;
 import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandInteractionOption;
 import org.javacord.api.interaction.SlashCommandOption;
 import org.javacord.api.interaction.SlashCommandOptionChoice;
 import org.javacord.api.interaction.SlashCommandOptionType;
-import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
-import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
 import org.javacord.bot.commands.workers.DocsCommandWorker;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * The /docs command which is used to show links to Javacord's JavaDocs.
  */
 @ApplicationScoped
 @Description("Shows a link to the JavaDoc or searches through it")
-@Asynchronous
 public class DocsSlashCommand extends BaseSlashCommand {
     private static final String SEARCH_TERM = "search-term";
     private static final String SEARCH_TYPE = "search-type";
@@ -38,7 +35,8 @@ public class DocsSlashCommand extends BaseSlashCommand {
                 SlashCommandOption.createStringOption(
                         SEARCH_TERM,
                         "The term to search for",
-                        false),
+                        false,
+                        true),
                 SlashCommandOption.createWithChoices(
                         SlashCommandOptionType.STRING,
                         SEARCH_TYPE,
@@ -53,13 +51,28 @@ public class DocsSlashCommand extends BaseSlashCommand {
                         false));
     }
 
+    @Override
+    public List<SlashCommandOptionChoice> autocomplete(AutocompleteInteraction interaction) {
+        SlashCommandInteractionOption focusedOption = interaction.getFocusedOption();
+        String prefix = focusedOption.getStringValue().orElse("");
+        if (!SEARCH_TERM.equals(focusedOption.getName()) || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        String searchType = interaction
+                .getArgumentStringValueByName(SEARCH_TYPE)
+                .orElse(SEARCH_TYPE_MEMBERS);
+        boolean includeAll = interaction
+                .getArgumentBooleanValueByName(INCLUDE_ALL)
+                .orElse(Boolean.FALSE);
+        return toChoices(worker.complete(prefix, searchType, includeAll, MAX_CHOICES));
+    }
+
     /**
      * Executes the {@code /docs} command.
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        CompletableFuture<InteractionOriginalResponseUpdater> responseUpdater =
-                sendResponseLater(commandContext);
         SlashCommandInteraction slashCommandInteraction = commandContext.getMessage();
 
         String searchTerm = slashCommandInteraction
@@ -72,11 +85,6 @@ public class DocsSlashCommand extends BaseSlashCommand {
                 .getArgumentBooleanValueByName(INCLUDE_ALL)
                 .orElse(Boolean.FALSE);
 
-        responseUpdater
-                .thenCombine(
-                        worker.execute(searchTerm, searchType, includeAll),
-                        InteractionMessageBuilderBase::addEmbed)
-                .thenCompose(InteractionOriginalResponseUpdater::update)
-                .join();
+        respond(commandContext, deadline -> worker.execute(searchTerm, searchType, includeAll, deadline));
     }
 }
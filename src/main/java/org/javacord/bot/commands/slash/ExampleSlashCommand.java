@@ -3,7 +3,6 @@ package org.javacord.bot.commands.slash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.bot.commands.workers.ExampleCommandWorker;
@@ -13,7 +12,6 @@ import org.javacord.bot.commands.workers.ExampleCommandWorker;
  */
 @ApplicationScoped
 @Description("Shows a link to the example bot")
-@Asynchronous
 public class ExampleSlashCommand extends BaseSlashCommand {
     @Inject
     ExampleCommandWorker worker;
@@ -23,6 +21,6 @@ public class ExampleSlashCommand extends BaseSlashCommand {
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        sendResponse(commandContext, worker.execute()).join();
+        logExceptions(sendResponse(commandContext, worker.execute()));
     }
 }
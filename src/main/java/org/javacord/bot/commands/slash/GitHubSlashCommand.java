@@ -4,7 +4,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
 import net.kautler.command.api.annotation.Alias;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.bot.commands.workers.GitHubCommandWorker;
@@ -15,7 +14,6 @@ import org.javacord.bot.commands.workers.GitHubCommandWorker;
 @ApplicationScoped
 @Alias("github")
 @Description("Shows links to the most important GitHub pages")
-@Asynchronous
 public class GitHubSlashCommand extends BaseSlashCommand {
     @Inject
     GitHubCommandWorker worker;
@@ -25,6 +23,6 @@ public class GitHubSlashCommand extends BaseSlashCommand {
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        sendResponse(commandContext, worker.execute()).join();
+        logExceptions(sendResponse(commandContext, worker.execute()));
     }
 }
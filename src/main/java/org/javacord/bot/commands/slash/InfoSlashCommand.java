@@ -3,14 +3,12 @@ package org.javacord.bot.commands.slash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.bot.commands.workers.InfoCommandWorker;
 
 @ApplicationScoped
 @Description("Shows information about this bot")
-@Asynchronous
 public class InfoSlashCommand extends BaseSlashCommand {
     @Inject
     InfoCommandWorker worker;
@@ -20,6 +18,6 @@ public class InfoSlashCommand extends BaseSlashCommand {
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        sendResponse(commandContext, worker.execute()).join();
+        logExceptions(sendResponse(commandContext, worker.execute()));
     }
 }
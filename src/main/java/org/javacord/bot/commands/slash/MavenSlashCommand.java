@@ -3,7 +3,6 @@ package org.javacord.bot.commands.slash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.bot.commands.workers.MavenCommandWorker;
@@ -13,7 +12,6 @@ import org.javacord.bot.commands.workers.MavenCommandWorker;
  */
 @ApplicationScoped
 @Description("Shows the Maven dependency")
-@Asynchronous
 public class MavenSlashCommand extends BaseSlashCommand {
     @Inject
     MavenCommandWorker worker;
@@ -23,6 +21,6 @@ public class MavenSlashCommand extends BaseSlashCommand {
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        sendResponse(commandContext, worker.execute()).join();
+        respond(commandContext, worker::execute);
     }
 }
@@ -3,23 +3,21 @@ package org.javacord.bot.commands.slash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
+import org.javacord.api.interaction.AutocompleteInteraction;
 import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandInteractionOption;
 import org.javacord.api.interaction.SlashCommandOption;
-import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
-import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
 import org.javacord.bot.commands.workers.WikiCommandWorker;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * The /wiki command which is used to link to Javacord's wiki.
  */
 @ApplicationScoped
 @Description("Shows a link to the wiki or searches through it")
-@Asynchronous
 public class WikiSlashCommand extends BaseSlashCommand {
     private static final String SEARCH_TERM = "search-term";
     private static final String SEARCH_IN_KEYWORDS = "search-in-keywords";
@@ -35,7 +33,8 @@ public class WikiSlashCommand extends BaseSlashCommand {
                 SlashCommandOption.createStringOption(
                         SEARCH_TERM,
                         "The term to search for",
-                        false),
+                        false,
+                        true),
                 SlashCommandOption.createBooleanOption(
                         SEARCH_IN_KEYWORDS,
                         "Whether to search in keywords (default: true)",
@@ -50,13 +49,21 @@ public class WikiSlashCommand extends BaseSlashCommand {
                         false));
     }
 
+    @Override
+    public List<SlashCommandOptionChoice> autocomplete(AutocompleteInteraction interaction) {
+        SlashCommandInteractionOption focusedOption = interaction.getFocusedOption();
+        String prefix = focusedOption.getStringValue().orElse("");
+        if (!SEARCH_TERM.equals(focusedOption.getName()) || prefix.isEmpty()) {
+            return List.of();
+        }
+        return toChoices(worker.complete(prefix, MAX_CHOICES));
+    }
+
     /**
      * Executes the {@code /wiki} command.
      */
     @Override
     public void execute(CommandContext<? extends SlashCommandInteraction> commandContext) {
-        CompletableFuture<InteractionOriginalResponseUpdater> responseUpdater =
-                sendResponseLater(commandContext);
         SlashCommandInteraction slashCommandInteraction = commandContext.getMessage();
 
         String searchTerm = slashCommandInteraction
@@ -72,11 +79,7 @@ public class WikiSlashCommand extends BaseSlashCommand {
                 .getArgumentBooleanValueByName(SEARCH_IN_CONTENTS)
                 .orElse(Boolean.FALSE);
 
-        responseUpdater
-                .thenCombine(
-                        worker.execute(searchTerm, searchInKeywords, searchInTitles, searchInContents),
-                        InteractionMessageBuilderBase::addEmbed)
-                .thenCompose(InteractionOriginalResponseUpdater::update)
-                .join();
+        respond(commandContext, deadline -> worker.execute(
+                searchTerm, searchInKeywords, searchInTitles, searchInContents, deadline));
     }
 }
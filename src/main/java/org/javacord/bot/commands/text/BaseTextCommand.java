@@ -13,8 +13,13 @@ import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.bot.Constants;
 import org.javacord.bot.listeners.TextCommandCleanupListener;
 import org.javacord.bot.restrictions.JavacordChannelOnDapiServer;
+import org.javacord.bot.util.CommandLimiter;
+import org.javacord.bot.util.Deadline;
+import org.javacord.bot.util.FailureEmbeds;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public abstract class BaseTextCommand implements Command<Message> {
@@ -27,6 +32,12 @@ public abstract class BaseTextCommand implements Command<Message> {
     @Inject
     ParameterParser parameterParser;
 
+    @Inject
+    CommandLimiter commandLimiter;
+
+    @Inject
+    TextCommandCleanupListener cleanupListener;
+
     @Override
     public List<String> getAliases() {
         return Command
@@ -60,22 +71,56 @@ public abstract class BaseTextCommand implements Command<Message> {
                     .setTitle("Error")
                     .setDescription(String.format("%s: %s", message.getAuthor().getDisplayName(), ppe.getMessage()))
                     .setColor(Constants.ERROR_COLOR);
-            TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-            message
-                    .reply(embed)
-                    .whenComplete((__, throwable) -> {
-                        if (throwable != null) {
-                            logger
-                                    .atError()
-                                    .withThrowable(throwable)
-                                    .log("Exception while sending parameter parse failure to Discord");
-                        }
-                    });
+            reply(message, embed);
             return;
         }
         doExecute(commandContext, message, parameters);
     }
 
+    /**
+     * Replies to the given command message with the given embed without waiting for the reply to be sent.
+     *
+     * @param message The command message.
+     * @param embed   The embed to reply with.
+     */
+    protected void reply(Message message, EmbedBuilder embed) {
+        reply(message, __ -> CompletableFuture.completedFuture(embed));
+    }
+
+    /**
+     * Replies to the given command message with the embed of the given worker as soon as it is available, without
+     * waiting for the reply to be sent. The worker gets the deadline of the command, after which its work is
+     * cancelled. If too many commands are executed already, an overload notice is replied instead. If the worker
+     * fails, an embed that describes the failure is replied.
+     *
+     * @param message The command message.
+     * @param worker  The worker that creates the embed to reply with before the given deadline.
+     */
+    protected void reply(Message message, Function<Deadline, CompletableFuture<EmbedBuilder>> worker) {
+        commandLimiter
+                .execute(worker)
+                .exceptionally(throwable -> FailureEmbeds.forExpectedFailure(throwable).orElseGet(() -> {
+                    logger
+                            .atError()
+                            .withThrowable(throwable)
+                            .log("Exception while executing !{} command", getAliases().get(0));
+                    return FailureEmbeds.createErrorEmbed(throwable);
+                }))
+                .thenCompose(builder -> {
+                    TextCommandCleanupListener.insertResponseTracker(builder);
+                    return message.reply(builder);
+                })
+                .thenAccept(response -> cleanupListener.trackResponse(message, response))
+                .whenComplete((__, throwable) -> {
+                    if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while replying to !{} command", getAliases().get(0));
+                    }
+                });
+    }
+
     protected abstract void doExecute(CommandContext<? extends Message> commandContext,
                                       Message message, Parameters<String> parameters);
 }
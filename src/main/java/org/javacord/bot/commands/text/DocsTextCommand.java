@@ -3,13 +3,11 @@ package org.javacord.bot.commands.text;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import net.kautler.command.api.annotation.Usage;
 import net.kautler.command.api.parameter.Parameters;
 import org.javacord.api.entity.message.Message;
 import org.javacord.bot.commands.workers.DocsCommandWorker;
-import org.javacord.bot.listeners.TextCommandCleanupListener;
 
 import java.util.Set;
 
@@ -19,7 +17,6 @@ import java.util.Set;
 @ApplicationScoped
 @Description("Shows a link to the JavaDoc or searches through it")
 @Usage("[[('classes' | 'class' | 'c' | 'methods' | 'method' | 'm')] [('all' | 'a')] <search...>]")
-@Asynchronous
 public class DocsTextCommand extends BaseTextCommand {
     /**
      * The parameters that indicate searching for class names only.
@@ -88,13 +85,9 @@ public class DocsTextCommand extends BaseTextCommand {
                 throw new AssertionError(String.format("Missing case for parameter count '%s'", parameters.size()));
         }
 
-        worker
-                .execute(searchTerm, searchType, includeAll)
-                .thenCompose(embed -> {
-                    TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-                    return message.reply(embed);
-                })
-                .join();
+        String selectedSearchType = searchType;
+        boolean selectedIncludeAll = includeAll;
+        reply(message, deadline -> worker.execute(searchTerm, selectedSearchType, selectedIncludeAll, deadline));
     }
 
     private boolean classSearch(Parameters<String> parameters) {
@@ -4,13 +4,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
 import net.kautler.command.api.annotation.Alias;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import net.kautler.command.api.parameter.Parameters;
 import org.javacord.api.entity.message.Message;
-import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.bot.commands.workers.GitHubCommandWorker;
-import org.javacord.bot.listeners.TextCommandCleanupListener;
 
 /**
  * The !github command which is used to link to Javacord related GitHub repositories.
@@ -18,7 +15,6 @@ import org.javacord.bot.listeners.TextCommandCleanupListener;
 @ApplicationScoped
 @Alias("github")
 @Description("Shows links to the most important GitHub pages")
-@Asynchronous
 public class GitHubTextCommand extends BaseTextCommand {
     @Inject
     GitHubCommandWorker worker;
@@ -29,8 +25,6 @@ public class GitHubTextCommand extends BaseTextCommand {
     @Override
     protected void doExecute(CommandContext<? extends Message> commandContext,
                              Message message, Parameters<String> parameters) {
-        EmbedBuilder embed = worker.execute();
-        TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-        message.reply(embed).join();
+        reply(message, worker.execute());
     }
 }
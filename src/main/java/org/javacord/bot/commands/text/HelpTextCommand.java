@@ -5,13 +5,11 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import net.kautler.command.api.Command;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import net.kautler.command.api.parameter.Parameters;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.bot.Constants;
-import org.javacord.bot.listeners.TextCommandCleanupListener;
 import org.javacord.bot.util.JavacordIconProvider;
 
 import java.util.ArrayList;
@@ -24,7 +22,6 @@ import java.util.stream.Collectors;
  */
 @ApplicationScoped
 @Description("Shows the help page")
-@Asynchronous
 public class HelpTextCommand extends BaseTextCommand {
     @Inject
     Instance<Command<Message>> textCommands;
@@ -74,7 +71,6 @@ public class HelpTextCommand extends BaseTextCommand {
                     embed.addField(String.format("**__%s%s__**", prefix, command.getAliases().get(0)), commandInfo);
                 });
 
-        TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-        message.reply(embed).join();
+        reply(message, embed);
     }
 }
@@ -3,13 +3,11 @@ package org.javacord.bot.commands.text;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import net.kautler.command.api.CommandContext;
-import net.kautler.command.api.annotation.Asynchronous;
 import net.kautler.command.api.annotation.Description;
 import net.kautler.command.api.annotation.Usage;
 import net.kautler.command.api.parameter.Parameters;
 import org.javacord.api.entity.message.Message;
 import org.javacord.bot.commands.workers.WikiCommandWorker;
-import org.javacord.bot.listeners.TextCommandCleanupListener;
 
 import java.util.function.Predicate;
 
@@ -19,7 +17,6 @@ import java.util.function.Predicate;
 @ApplicationScoped
 @Description("Shows a link to the wiki or searches through it")
 @Usage("[[('title' | 't' | 'page' | 'p' | 'full' | 'f' | 'content' | 'c')] <search...>]")
-@Asynchronous
 public class WikiTextCommand extends BaseTextCommand {
     @Inject
     WikiCommandWorker worker;
@@ -77,12 +74,9 @@ public class WikiTextCommand extends BaseTextCommand {
                 throw new AssertionError(String.format("Missing case for parameter count '%s'", parameters.size()));
         }
 
-        worker
-                .execute(searchTerm, searchInKeywords, searchInTitles, searchInContents)
-                .thenCompose(embed -> {
-                    TextCommandCleanupListener.insertResponseTracker(embed, message.getId());
-                    return message.reply(embed);
-                })
-                .join();
+        boolean selectedSearchInKeywords = searchInKeywords;
+        boolean selectedSearchInContents = searchInContents;
+        reply(message, deadline -> worker.execute(
+                searchTerm, selectedSearchInKeywords, searchInTitles, selectedSearchInContents, deadline));
     }
 }
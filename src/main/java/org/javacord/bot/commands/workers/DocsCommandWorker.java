@@ -5,23 +5,25 @@ import jakarta.inject.Inject;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
-import org.javacord.api.util.logging.ExceptionLogger;
 import org.javacord.bot.Constants;
+import org.javacord.bot.util.BotExecutor;
+import org.javacord.bot.util.Deadline;
+import org.javacord.bot.util.FailureEmbeds;
 import org.javacord.bot.util.JavacordIconProvider;
-import org.javacord.bot.util.LatestVersionFinder;
+import org.javacord.bot.util.javadoc.JavadocIndex;
+import org.javacord.bot.util.javadoc.JavadocIndexService;
 import org.javacord.bot.util.javadoc.parser.JavadocClass;
 import org.javacord.bot.util.javadoc.parser.JavadocMethod;
-import org.javacord.bot.util.javadoc.parser.JavadocParser;
+import org.javacord.bot.util.search.TopK;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The docs command worker which is used to show links to Javacord's JavaDocs.
@@ -31,6 +33,16 @@ public class DocsCommandWorker {
     public static final String SEARCH_TYPE_CLASSES = "classes";
     public static final String SEARCH_TYPE_MEMBERS = "members";
 
+    /**
+     * The maximum amount of results that are selected, more never fit into one embed.
+     */
+    private static final int MAX_RESULTS = 64;
+
+    /**
+     * The maximum amount of fields of an embed.
+     */
+    private static final int MAX_FIELDS = 25;
+
     @Inject
     DiscordApi api;
 
@@ -38,7 +50,10 @@ public class DocsCommandWorker {
     Logger logger;
 
     @Inject
-    LatestVersionFinder versionFinder;
+    BotExecutor executor;
+
+    @Inject
+    JavadocIndexService indexService;
 
     @Inject
     JavacordIconProvider iconProvider;
@@ -46,48 +61,70 @@ public class DocsCommandWorker {
     /**
      * Executes the {@code docs} commands.
      */
-    public CompletableFuture<EmbedBuilder> execute(String searchTerm, String searchType, boolean includeAll) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                EmbedBuilder embed = new EmbedBuilder()
-                        .setThumbnail(iconProvider.getIcon())
-                        .setColor(Constants.JAVACORD_ORANGE);
-
-                if (searchTerm == null) {
-                    // Just give an overview
-                    embed.setTitle("Javacord Docs")
-                            .addField("Overview", "https://docs.javacord.org/")
-                            .addField("Latest release version JavaDoc", "https://docs.javacord.org/api/v/latest");
-                } else {
+    public CompletableFuture<EmbedBuilder> execute(String searchTerm, String searchType, boolean includeAll,
+                                                   Deadline deadline) {
+        EmbedBuilder embed = new EmbedBuilder()
+                .setThumbnail(iconProvider.getIcon())
+                .setColor(Constants.JAVACORD_ORANGE);
+
+        if (searchTerm == null) {
+            // Just give an overview
+            embed.setTitle("Javacord Docs")
+                    .addField("Overview", "https://docs.javacord.org/")
+                    .addField("Latest release version JavaDoc", "https://docs.javacord.org/api/v/latest");
+            return CompletableFuture.completedFuture(embed);
+        }
+
+        CompletableFuture<EmbedBuilder> search = getIndices(includeAll, deadline)
+                .thenApplyAsync(indices -> {
+                    deadline.check();
                     switch (searchType) {
                         case SEARCH_TYPE_MEMBERS:
-                            populateMembers(api, embed, searchTerm, includeAll);
+                            populateMembers(api, embed, searchTerm, indices, includeAll);
                             break;
 
                         case SEARCH_TYPE_CLASSES:
-                            populateClasses(api, embed, searchTerm, includeAll);
+                            populateClasses(api, embed, searchTerm, indices, includeAll);
                             break;
 
                         default:
                             throw new AssertionError(String.format("Missing case for search type '%s'", searchType));
                     }
-                }
+                    return embed;
+                }, executor);
+        // the search may still wait in the queue of the executor, so it is bounded too
+        return deadline
+                .bound(search)
+                .exceptionally(t -> FailureEmbeds.forExpectedFailure(t).orElseGet(() -> {
+                    logger
+                            .atError()
+                            .withThrowable(t)
+                            .log("Exception while handling docs command");
+                    return FailureEmbeds.createErrorEmbed(t);
+                }));
+    }
 
-                return embed;
-            } catch (Throwable t) {
-                logger
-                        .atError()
-                        .withThrowable(t)
-                        .log("Exception while handling docs command");
-
-                return new EmbedBuilder()
-                        .setTitle("Error")
-                        .setDescription(String.format(
-                                "Something went wrong: ```%s```",
-                                ExceptionLogger.unwrapThrowable(t).getMessage()))
-                        .setColor(Constants.ERROR_COLOR);
-            }
-        }, api.getThreadPool().getExecutorService());
+    /**
+     * Gets autocomplete suggestions for a search term from the indices that are currently in memory.
+     *
+     * @param prefix     The typed prefix of the search term.
+     * @param searchType The search type.
+     * @param includeAll Whether to include suggestions from the core artifact.
+     * @param limit      The maximum amount of suggestions.
+     * @return The suggestions.
+     */
+    public List<String> complete(String prefix, String searchType, boolean includeAll, int limit) {
+        Stream<String> types = includeAll ? Stream.of("api", "core") : Stream.of("api");
+        return types
+                .map(indexService::getCurrentIndex)
+                .flatMap(Optional::stream)
+                .map(index -> SEARCH_TYPE_CLASSES.equals(searchType)
+                        ? index.getClassCompletions()
+                        : index.getMethodCompletions())
+                .flatMap(completions -> completions.complete(prefix, limit).stream())
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -96,27 +133,21 @@ public class DocsCommandWorker {
      * @param api          A discord api instance.
      * @param embed        The embed to populate.
      * @param searchString A search string.
+     * @param indices      The indices to search in.
      */
-    private void populateMembers(DiscordApi api, EmbedBuilder embed, String searchString, boolean includeAll) {
-        CompletableFuture<Set<JavadocMethod>> apiMethods = versionFinder.findLatestVersion()
-                .thenApply(latestVersion -> new JavadocParser(api, "api", latestVersion))
-                .thenCompose(JavadocParser::getMethods);
-        CompletableFuture<Set<JavadocMethod>> coreMethods = (includeAll)
-                ? versionFinder.findLatestVersion()
-                .thenApply(latestVersion -> new JavadocParser(api, "core", latestVersion))
-                .thenCompose(JavadocParser::getMethods)
-                : CompletableFuture.completedFuture(Collections.emptySet());
-
-        Map<String, List<JavadocMethod>> methodsByClass = apiMethods
-                .thenCombine(coreMethods, this::unionOf).join().stream()
-                .filter(method -> method.getFullName().toLowerCase().contains(searchString.toLowerCase()))
-                .filter(method -> {
-                    String packageName = method.getPackageName();
-                    return includeAll || !(packageName.endsWith(".internal") || packageName.contains(".internal."));
-                })
-                .sorted(Comparator.comparingInt(method -> method.getName().length()))
-                .collect(Collectors.groupingBy(JavadocMethod::getClassName));
+    private void populateMembers(DiscordApi api, EmbedBuilder embed, String searchString,
+                                 List<JavadocIndex> indices, boolean includeAll) {
+        TopK<JavadocMethod> topMethods = new TopK<>(MAX_RESULTS,
+                Comparator.comparing(JavadocMethod::getShortenedName, String::compareToIgnoreCase));
+        for (JavadocIndex index : indices) {
+            index.searchMethods(searchString, includeAll, topMethods);
+        }
 
+        // group by class, the classes ordered by their best method
+        Map<String, List<JavadocMethod>> methodsByClass = topMethods
+                .toSortedList()
+                .stream()
+                .collect(Collectors.groupingBy(JavadocMethod::getClassName, LinkedHashMap::new, Collectors.toList()));
 
         if (methodsByClass.isEmpty()) {
             embed.setTitle("Methods");
@@ -125,64 +156,58 @@ public class DocsCommandWorker {
         }
 
         int totalTextCount = 0;
-        List<Map.Entry<String, List<JavadocMethod>>> entries = new ArrayList<>(methodsByClass.entrySet());
-        entries.sort(Map.Entry.comparingByKey(String::compareToIgnoreCase));
-        int classesAmount = entries.size();
-        for (int classIndex = 0; classIndex < classesAmount; classIndex++) {
-            Map.Entry<String, List<JavadocMethod>> entry = entries.get(classIndex);
+        int shownMethodsAmount = 0;
+        int fieldsAmount = 0;
+        for (Map.Entry<String, List<JavadocMethod>> entry : methodsByClass.entrySet()) {
             List<JavadocMethod> methods = entry.getValue();
-            methods.sort(Comparator.comparing(JavadocMethod::getShortenedName, String::compareToIgnoreCase));
             StringBuilder methodsBuilder = new StringBuilder();
             int methodsAmount = methods.size();
+            int shownClassMethodsAmount = 0;
             for (int methodIndex = 0; methodIndex < methodsAmount; methodIndex++) {
                 JavadocMethod method = methods.get(methodIndex);
-                StringBuilder methodBuilder = new StringBuilder()
-                        .append("• [")
-                        .append(method.getShortenedName())
-                        .append("](")
-                        .append(method.getFullUrl())
-                        .append(")\n");
+                String markdownLink = method.getMarkdownLink();
                 int nextMoreSize = methodIndex == (methodsAmount - 1)
                         ? 0
                         : 11 + (int) (Math.log10(methodsAmount - methodIndex - 1) + 1);
-                if ((methodsBuilder.length() + methodBuilder.length() + nextMoreSize) < 1000) {
-                    methodsBuilder.append(methodBuilder);
+                // "• " + link + "\n"
+                if ((methodsBuilder.length() + markdownLink.length() + 3 + nextMoreSize) < 1000) {
+                    methodsBuilder.append("• ").append(markdownLink).append('\n');
+                    shownClassMethodsAmount++;
                 } else {
                     methodsBuilder.append("• ").append(methodsAmount - methodIndex).append(" more ...");
                     break;
                 }
             }
-            int nextMoreSize = classIndex == (classesAmount - 1)
-                    ? 0
-                    : 57 + (int) (Math.log10(classesAmount - classIndex - 1) + 1);
             String className = entry.getKey();
-            if ((totalTextCount + className.length() + methodsBuilder.length() + nextMoreSize) <= 5900) {
-                embed.addField(className, methodsBuilder.toString());
-                totalTextCount += className.length() + methodsBuilder.length();
-            } else {
-                embed.addField(String.format("And **%d** more classes ...", classesAmount - classIndex),
-                        "Maybe try a less generic search?");
+            // stop as soon as the embed is full, leaving room for the "more results" field
+            if ((fieldsAmount == MAX_FIELDS - 1)
+                    || ((totalTextCount + className.length() + methodsBuilder.length() + 70) > 5900)) {
                 break;
             }
+            embed.addField(className, methodsBuilder.toString());
+            totalTextCount += className.length() + methodsBuilder.length();
+            shownMethodsAmount += shownClassMethodsAmount;
+            fieldsAmount++;
+        }
+
+        int moreMethodsAmount = topMethods.getOfferedCount() - shownMethodsAmount;
+        if (moreMethodsAmount > 0) {
+            embed.addField(String.format("And **%d** more results ...", moreMethodsAmount),
+                    "Maybe try a less generic search?");
         }
     }
 
     /**
-     * Union operation for sets.
+     * Gets the indices to search in.
      *
-     * @param set1 First set.
-     * @param set2 Second set.
-     * @param <T>  Type of set content.
-     * @return The union of the two sets.
+     * @param includeAll Whether to include the core artifact.
+     * @param deadline   The deadline of the command.
+     * @return The indices to search in.
      */
-    private <T> Set<T> unionOf(Set<T> set1, Set<T> set2) {
-        if (set2.isEmpty()) {
-            return set1;
-        } else {
-            Set<T> union = new HashSet<>(set1);
-            union.addAll(set2);
-            return union;
-        }
+    private CompletableFuture<List<JavadocIndex>> getIndices(boolean includeAll, Deadline deadline) {
+        return includeAll
+                ? indexService.getIndices(deadline, "api", "core")
+                : indexService.getIndices(deadline, "api");
     }
 
     /**
@@ -191,25 +216,16 @@ public class DocsCommandWorker {
      * @param api          A discord api instance.
      * @param embed        The embed to populate.
      * @param searchString A search string.
+     * @param indices      The indices to search in.
      */
-    private void populateClasses(DiscordApi api, EmbedBuilder embed, String searchString, boolean includeAll) {
-        CompletableFuture<Set<JavadocClass>> apiClasses = versionFinder.findLatestVersion()
-                .thenApply(latestVersion -> new JavadocParser(api, "api", latestVersion))
-                .thenCompose(JavadocParser::getClasses);
-        CompletableFuture<Set<JavadocClass>> coreClasses = (includeAll)
-                ? versionFinder.findLatestVersion()
-                .thenApply(latestVersion -> new JavadocParser(api, "core", latestVersion))
-                .thenCompose(JavadocParser::getClasses)
-                : CompletableFuture.completedFuture(Collections.emptySet());
-
-        List<JavadocClass> classes = apiClasses.thenCombine(coreClasses, this::unionOf).join().stream()
-                .filter(clazz -> clazz.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .filter(clazz -> {
-                    String packageName = clazz.getPackageName();
-                    return includeAll || !(packageName.endsWith(".internal") || packageName.contains(".internal."));
-                })
-                .sorted(Comparator.comparingInt(clazz -> clazz.getName().length()))
-                .collect(Collectors.toList());
+    private void populateClasses(DiscordApi api, EmbedBuilder embed, String searchString,
+                                 List<JavadocIndex> indices, boolean includeAll) {
+        TopK<JavadocClass> topClasses = new TopK<>(MAX_RESULTS,
+                Comparator.comparing(JavadocClass::getName, String::compareToIgnoreCase));
+        for (JavadocIndex index : indices) {
+            index.searchClasses(searchString, includeAll, topClasses);
+        }
+        List<JavadocClass> classes = topClasses.toSortedList();
 
         embed.setTitle("Classes");
         if (classes.isEmpty()) {
@@ -223,19 +239,15 @@ public class DocsCommandWorker {
             if (strBuilder.length() > 0) {
                 strBuilder.append(", ");
             }
-            strBuilder.append("[")
-                    .append(clazz.getName())
-                    .append("](")
-                    .append(clazz.getFullUrl())
-                    .append(")");
+            strBuilder.append(clazz.getMarkdownLink());
             counter++;
             if (strBuilder.length() > 1950) { // Prevent hitting the description size limit
                 break;
             }
         }
 
-        if (classes.size() - counter > 0) {
-            strBuilder.append("\nand ").append(classes.size() - counter).append(" more ...");
+        if (topClasses.getOfferedCount() - counter > 0) {
+            strBuilder.append("\nand ").append(topClasses.getOfferedCount() - counter).append(" more ...");
         }
 
         embed.setDescription(strBuilder.toString());
@@ -4,8 +4,11 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.bot.Constants;
+import org.javacord.bot.util.Deadline;
 import org.javacord.bot.util.LatestVersionFinder;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The maven command worker which is used to get information about Javacord with Maven.
  */
@@ -17,21 +20,22 @@ public class MavenCommandWorker {
     /**
      * Executes the {@code maven} commands.
      */
-    public EmbedBuilder execute() {
-        String latestVersion = versionFinder.findLatestVersion().join();
-        return new EmbedBuilder()
-                .setColor(Constants.JAVACORD_ORANGE)
-                .addField("Dependency",
-                        "```xml\n"
-                                + "<dependency>\n"
-                                + "    <groupId>org.javacord</groupId>\n"
-                                + "    <artifactId>javacord</artifactId>\n"
-                                + "    <version>" + latestVersion + "</version>\n"
-                                + "    <type>pom</type>\n"
-                                + "</dependency>\n"
-                                + "```")
-                .addField("Setup Guides",
-                        "• [IntelliJ](https://javacord.org/wiki/getting-started/intellij-maven/)\n"
-                                + "• [Eclipse](https://javacord.org/wiki/getting-started/eclipse-maven/)");
+    public CompletableFuture<EmbedBuilder> execute(Deadline deadline) {
+        return deadline
+                .bound(versionFinder.findLatestVersion())
+                .thenApply(latestVersion -> new EmbedBuilder()
+                        .setColor(Constants.JAVACORD_ORANGE)
+                        .addField("Dependency",
+                                "```xml\n"
+                                        + "<dependency>\n"
+                                        + "    <groupId>org.javacord</groupId>\n"
+                                        + "    <artifactId>javacord</artifactId>\n"
+                                        + "    <version>" + latestVersion + "</version>\n"
+                                        + "    <type>pom</type>\n"
+                                        + "</dependency>\n"
+                                        + "```")
+                        .addField("Setup Guides",
+                                "• [IntelliJ](https://javacord.org/wiki/getting-started/intellij-maven/)\n"
+                                        + "• [Eclipse](https://javacord.org/wiki/getting-started/eclipse-maven/)"));
     }
 }
@@ -0,0 +1,62 @@
+package org.javacord.bot.listeners;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.event.interaction.AutocompleteCreateEvent;
+import org.javacord.api.interaction.AutocompleteInteraction;
+import org.javacord.api.listener.interaction.AutocompleteCreateListener;
+import org.javacord.bot.commands.slash.BaseSlashCommand;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A listener to answer autocomplete requests for slash command options with the suggestions of the command.
+ *
+ * <p>Suggestions are computed from in-memory indices only, so they are answered well within Discord's deadline.
+ */
+@ApplicationScoped
+public class AutocompleteListener implements AutocompleteCreateListener {
+    @Inject
+    Logger logger;
+
+    @Inject
+    DiscordApi discordApi;
+
+    @Inject
+    Instance<BaseSlashCommand> slashCommands;
+
+    private final Map<String, BaseSlashCommand> slashCommandsByName = new ConcurrentHashMap<>();
+
+    void registerListener(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        slashCommands.forEach(slashCommand -> slashCommand
+                .getAliases()
+                .forEach(alias -> slashCommandsByName.put(alias, slashCommand)));
+        discordApi.addAutocompleteCreateListener(this);
+    }
+
+    @Override
+    public void onAutocompleteCreate(AutocompleteCreateEvent event) {
+        AutocompleteInteraction interaction = event.getAutocompleteInteraction();
+        BaseSlashCommand slashCommand = slashCommandsByName.get(interaction.getCommandName());
+        if (slashCommand == null) {
+            return;
+        }
+
+        interaction
+                .respondWithChoices(slashCommand.autocomplete(interaction))
+                .whenComplete((__, throwable) -> {
+                    if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while responding to autocomplete request");
+                    }
+                });
+    }
+}
@@ -24,17 +24,12 @@ import org.javacord.api.interaction.callback.InteractionFollowupMessageBuilder;
 import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
 import org.javacord.api.listener.interaction.ButtonClickListener;
 import org.javacord.api.listener.interaction.SelectMenuChooseListener;
+import org.javacord.bot.util.HiddenStringCodec;
 
-import java.io.ByteArrayOutputStream;
-import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.lang.Integer.parseUnsignedInt;
 import static java.lang.String.format;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.javacord.api.entity.message.MessageDecoration.CODE_SIMPLE;
@@ -54,6 +49,9 @@ public class PublishResponseListener implements ButtonClickListener, SelectMenuC
     @Inject
     DiscordApi discordApi;
 
+    @Inject
+    SlashCommandCleanupListener cleanupListener;
+
     void registerListener(@Observes @Initialized(ApplicationScoped.class) Object unused) {
         discordApi.addListener(this);
     }
@@ -101,7 +99,11 @@ public class PublishResponseListener implements ButtonClickListener, SelectMenuC
                         .map(Embed::toBuilder)
                         .collect(toList()))
                 .send()
-                .thenCompose(message -> message.addReaction(WASTEBASKET))
+                .thenCompose(message -> {
+                    // registered first, so a wastebasket that is clicked before our own reaction is added works
+                    cleanupListener.registerPublishedResponse(message);
+                    return message.addReaction(WASTEBASKET);
+                })
                 .whenComplete((__, throwable) -> {
                     if (throwable != null) {
                         logger
@@ -154,7 +156,7 @@ public class PublishResponseListener implements ButtonClickListener, SelectMenuC
     public static void setContentToHiddenCommandString(
             CommandContext<? extends SlashCommandInteraction> commandContext,
             InteractionMessageBuilderBase<?> responder) {
-        byte[] commandBytes = format(
+        String command = format(
                 "/%s %s",
                 commandContext.getAlias().orElseThrow(AssertionError::new),
                 commandContext
@@ -163,37 +165,12 @@ public class PublishResponseListener implements ButtonClickListener, SelectMenuC
                         .stream()
                         .map(option -> format("%s: %s", option.getName(), option.getStringRepresentationValue().orElse("")))
                         .collect(joining(" "))
-        ).trim().getBytes(UTF_8);
-
-        responder.setContent(IntStream
-                .range(0, commandBytes.length)
-                .map(i -> commandBytes[i])
-                .mapToObj(Integer::toBinaryString)
-                .collect(joining("\u200D"))
-                .replace('0', '\u200B')
-                .replace('1', '\u200C')
-                + '\u200E');
+        ).trim();
+
+        responder.setContent(HiddenStringCodec.encode(command));
     }
 
     private static String extractHiddenCommandString(MessageComponentInteractionBase interaction) {
-        String messageContent = interaction.getMessage().getContent();
-        int endMarker = messageContent.indexOf('\u200E');
-        if (endMarker < 0) {
-            throw new AssertionError("End marker not found");
-        }
-        return Arrays
-                .stream(messageContent
-                        .substring(0, endMarker)
-                        .replace('\u200C', '1')
-                        .replace('\u200B', '0')
-                        .split(Pattern.quote("\u200D"))
-                )
-                .mapToInt(commandByte -> parseUnsignedInt(commandByte, 2))
-                .collect(
-                        ByteArrayOutputStream::new,
-                        (baos, i) -> baos.write((byte) i),
-                        (baos1, baos2) -> baos1.write(baos2.toByteArray(), 0, baos2.size())
-                )
-                .toString(UTF_8);
+        return HiddenStringCodec.decode(interaction.getMessage().getContent());
     }
 }
@@ -1,33 +1,143 @@
 package org.javacord.bot.listeners;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.message.Message;
 import org.javacord.api.event.message.reaction.ReactionAddEvent;
+import org.javacord.api.exception.NotFoundException;
 import org.javacord.api.listener.message.reaction.ReactionAddListener;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.bot.util.ExpiringLongMap;
+import org.javacord.bot.util.LongMapJournal;
+import org.javacord.bot.util.MetricsRegistry;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A listener to clean up our responses to slash user commands if the wastebasket reaction was clicked.
+ *
+ * <p>The published responses that got the wastebasket reaction are registered in memory, so wastebasket reactions
+ * on other messages are rejected without any request to Discord. The registry is journaled to a local file, so the
+ * wastebasket still works after a restart. The location of the file can be configured with the
+ * {@value #PUBLISHED_RESPONSE_JOURNAL_FILE_PROPERTY} system property, an empty value disables the journal.
  */
 @ApplicationScoped
 public class SlashCommandCleanupListener implements ReactionAddListener {
     public static final String WASTEBASKET = "\uD83D\uDDD1️";
 
+    /**
+     * The system property to configure the location of the published response journal file.
+     */
+    public static final String PUBLISHED_RESPONSE_JOURNAL_FILE_PROPERTY = "javacord.bot.publishedResponseJournalFile";
+
+    /**
+     * The maximum amount of registered responses, the oldest ones can no longer be deleted beyond it.
+     */
+    private static final int MAX_PUBLISHED_RESPONSES = 10_000;
+
+    /**
+     * The time after which a response can no longer be deleted with the wastebasket reaction.
+     */
+    private static final Duration PUBLISHED_RESPONSE_TTL = Duration.ofDays(7);
+
     @Inject
     Logger logger;
 
     @Inject
     DiscordApi discordApi;
 
+    @Inject
+    MetricsRegistry metrics;
+
+    /**
+     * The channel ids of our published responses, keyed by the ids of the responses.
+     */
+    private final ExpiringLongMap publishedResponses =
+            new ExpiringLongMap(MAX_PUBLISHED_RESPONSES, PUBLISHED_RESPONSE_TTL);
+
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder registryMisses = new LongAdder();
+
+    private volatile LongMapJournal journal;
+
     void registerListener(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        metrics.register("slashCommandCleanup.publishedResponses", publishedResponses::size);
+        metrics.register("slashCommandCleanup.registryHits", registryHits::sum);
+        metrics.register("slashCommandCleanup.registryMisses", registryMisses::sum);
+        openJournal();
         discordApi.addReactionAddListener(this);
     }
 
+    private void openJournal() {
+        String journalFile = System.getProperty(PUBLISHED_RESPONSE_JOURNAL_FILE_PROPERTY, "javacord-bot.published");
+        if (journalFile.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(journalFile);
+        LongMapJournal journal = new LongMapJournal(file, publishedResponses);
+        try {
+            journal.load();
+            this.journal = journal;
+            logger.info("Loaded {} published slash command responses from {}", publishedResponses.size(), file);
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Could not open the published response journal {}, responses are only registered in memory",
+                            file);
+        }
+    }
+
+    @PreDestroy
+    void closeJournal() {
+        LongMapJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Exception while closing the published response journal");
+        }
+    }
+
+    /**
+     * Registers a published response that got the wastebasket reaction, so that it is deleted if the reaction is
+     * clicked.
+     *
+     * @param response The published response.
+     */
+    public void registerPublishedResponse(Message response) {
+        long expirationMillis = System.currentTimeMillis() + PUBLISHED_RESPONSE_TTL.toMillis();
+        long channelId = response.getChannel().getId();
+        publishedResponses.put(response.getId(), channelId, expirationMillis);
+        LongMapJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.append(response.getId(), channelId, expirationMillis);
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Could not journal the published response {}", response.getId());
+        }
+    }
+
     @Override
     public void onReactionAdd(ReactionAddEvent event) {
         if (event.getUserId() == discordApi.getYourself().getId()) {
@@ -38,20 +148,21 @@ public class SlashCommandCleanupListener implements ReactionAddListener {
             return;
         }
 
-        event
-                .requestMessage()
-                .thenCompose(message -> {
-                    if (message.getAuthor().getId() != discordApi.getYourself().getId()) {
-                        return completedFuture(null);
-                    }
-
-                    if (!message.getReactionByEmoji(WASTEBASKET).orElseThrow(AssertionError::new).containsYou()) {
-                        return completedFuture(null);
-                    }
+        OptionalLong channelId = publishedResponses.remove(event.getMessageId());
+        if (channelId.isEmpty()) {
+            registryMisses.increment();
+            return;
+        }
+        registryHits.increment();
 
-                    return message.delete("Wastebasket reaction has been clicked");
-                })
+        Message
+                .delete(discordApi, channelId.getAsLong(), event.getMessageId(),
+                        "Wastebasket reaction has been clicked")
                 .whenComplete((__, throwable) -> {
+                    if (ExceptionLogger.unwrapThrowable(throwable) instanceof NotFoundException) {
+                        logger.debug("Response {} was already deleted", event.getMessageId());
+                        return;
+                    }
                     if (throwable != null) {
                         logger
                                 .atError()
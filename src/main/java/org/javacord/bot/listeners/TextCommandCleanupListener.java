@@ -1,74 +1,165 @@
 package org.javacord.bot.listeners;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
-import org.javacord.api.entity.DiscordEntity;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
-import org.javacord.api.entity.message.embed.EmbedFooter;
 import org.javacord.api.event.message.MessageDeleteEvent;
+import org.javacord.api.exception.NotFoundException;
 import org.javacord.api.listener.message.MessageDeleteListener;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.bot.util.ExpiringLongMap;
+import org.javacord.bot.util.LongMapJournal;
+import org.javacord.bot.util.MetricsRegistry;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.function.Predicate;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.OptionalLong;
 
 /**
  * A listener to clean up our responses to text user commands if the command was deleted.
+ *
+ * <p>The responses are tracked in memory by the id of their command message, so deletes of other messages are
+ * ignored without any request to Discord. The tracked responses are journaled to a local file, so they are still
+ * cleaned up after a restart. The location of the file can be configured with the
+ * {@value #RESPONSE_JOURNAL_FILE_PROPERTY} system property, an empty value disables the journal.
  */
 @ApplicationScoped
 public class TextCommandCleanupListener implements MessageDeleteListener {
+    /**
+     * The system property to configure the location of the response journal file.
+     */
+    public static final String RESPONSE_JOURNAL_FILE_PROPERTY = "javacord.bot.responseJournalFile";
+
+    /**
+     * The maximum amount of tracked responses, the oldest ones are no longer cleaned up beyond it.
+     */
+    private static final int MAX_TRACKED_RESPONSES = 10_000;
+
+    /**
+     * The time after which a response is no longer cleaned up if its command message is deleted.
+     */
+    private static final Duration RESPONSE_TTL = Duration.ofHours(1);
+
+    @Inject
+    Logger logger;
+
     @Inject
     DiscordApi discordApi;
 
+    @Inject
+    MetricsRegistry metrics;
+
+    /**
+     * The ids of our responses, keyed by the ids of the command messages.
+     */
+    private final ExpiringLongMap responses = new ExpiringLongMap(MAX_TRACKED_RESPONSES, RESPONSE_TTL);
+
+    private volatile LongMapJournal journal;
+
     /**
      * Inserts a tracking footer into an embed builder.
      *
-     * @param builder          The embed builder to change.
-     * @param trackedMessageId The id of the message to track.
+     * <p>The footer only tells the user about the cleanup, the response is tracked by {@link #trackResponse}.
+     *
+     * @param builder The embed builder to change.
      * @return The embed builder for call chaining.
      */
-    public static EmbedBuilder insertResponseTracker(EmbedBuilder builder, long trackedMessageId) {
-        return builder.setFooter(longToBinaryBlankString(trackedMessageId)
-                + "If you delete your invocation message, this response will be deleted.");
+    public static EmbedBuilder insertResponseTracker(EmbedBuilder builder) {
+        return builder.setFooter("If you delete your invocation message, this response will be deleted.");
     }
 
     void registerListener(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        metrics.register("textCommandCleanup.trackedResponses", responses::size);
+        openJournal();
         discordApi.addMessageDeleteListener(this);
     }
 
-    @Override
-    public void onMessageDelete(MessageDeleteEvent event) {
-        final Predicate<Message> isAfterAnHour = isMessageAfter(DiscordEntity.getCreationTimestamp(event.getMessageId())
-                .plus(1L, ChronoUnit.HOURS));
-        final Predicate<Message> isOurResponseToDeletedMessage = isOurResponseTo(event.getMessageId());
-        event.getChannel().getMessagesAfterUntil(isAfterAnHour.or(isOurResponseToDeletedMessage), event.getMessageId())
-                .thenAccept(messages -> messages.getNewestMessage()
-                        .filter(isOurResponseToDeletedMessage)
-                        .ifPresent(message -> message.delete("Triggering command message has been deleted")));
+    private void openJournal() {
+        String journalFile = System.getProperty(RESPONSE_JOURNAL_FILE_PROPERTY, "javacord-bot.responses");
+        if (journalFile.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(journalFile);
+        LongMapJournal journal = new LongMapJournal(file, responses);
+        try {
+            journal.load();
+            this.journal = journal;
+            logger.info("Loaded {} tracked text command responses from {}", responses.size(), file);
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Could not open the response journal {}, responses are only tracked in memory", file);
+        }
     }
 
-    private Predicate<Message> isMessageAfter(Instant instant) {
-        return message -> message.getCreationTimestamp().isAfter(instant);
+    @PreDestroy
+    void closeJournal() {
+        LongMapJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Exception while closing the response journal");
+        }
     }
 
-    private Predicate<Message> isOurResponseTo(long messageId) {
-        String tracker = longToBinaryBlankString(messageId);
-        return message -> !message.getEmbeds().isEmpty()
-                && message.getAuthor().isYourself()
-                && message.getEmbeds().get(0).getFooter()
-                .flatMap(EmbedFooter::getText)
-                .filter(text -> text.startsWith(tracker))
-                .isPresent();
+    /**
+     * Tracks a response, so that it is deleted if the command message is deleted.
+     *
+     * @param commandMessage The command message.
+     * @param response       Our response to the command message.
+     */
+    public void trackResponse(Message commandMessage, Message response) {
+        long expirationMillis = System.currentTimeMillis() + RESPONSE_TTL.toMillis();
+        responses.put(commandMessage.getId(), response.getId(), expirationMillis);
+        LongMapJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.append(commandMessage.getId(), response.getId(), expirationMillis);
+        } catch (IOException ioe) {
+            logger
+                    .atWarn()
+                    .withThrowable(ioe)
+                    .log("Could not journal the response to message {}", commandMessage.getId());
+        }
     }
 
-    private static String longToBinaryBlankString(long l) {
-        return Long.toBinaryString(l)
-                .replace('0', '\u200B')
-                .replace('1', '\u200C')
-                + '\u200D';
+    @Override
+    public void onMessageDelete(MessageDeleteEvent event) {
+        OptionalLong responseId = responses.remove(event.getMessageId());
+        if (responseId.isEmpty()) {
+            return;
+        }
+        Message
+                .delete(discordApi, event.getChannel().getId(), responseId.getAsLong(),
+                        "Triggering command message has been deleted")
+                .whenComplete((__, throwable) -> {
+                    if (ExceptionLogger.unwrapThrowable(throwable) instanceof NotFoundException) {
+                        logger.debug("Response {} was already deleted", responseId.getAsLong());
+                        return;
+                    }
+                    if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while deleting the response {}", responseId.getAsLong());
+                    }
+                });
     }
 }
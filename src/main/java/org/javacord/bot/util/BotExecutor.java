@@ -0,0 +1,138 @@
+package org.javacord.bot.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executor for the work of the bot, like command execution, downloads and parsing.
+ *
+ * <p>It is separate from Javacord's internal thread pool, so slow downloads and parsing do not compete with the
+ * dispatching of gateway events. By default it is a bounded pool of platform threads with a bounded queue, tasks
+ * beyond that are rejected and never run on the submitting thread, which may be one of Javacord. Commands whose work
+ * is rejected are answered with the overload notice of the {@link FailureEmbeds}. The pool can be configured with
+ * the {@value #THREADS_PROPERTY} and {@value #QUEUE_SIZE_PROPERTY} system properties. If
+ * {@value #VIRTUAL_THREADS_PROPERTY} is {@code true} and the JDK supports virtual threads, every task runs on its own
+ * virtual thread instead.
+ *
+ * <p>The amount of active and queued tasks is exposed as metrics.
+ */
+@ApplicationScoped
+public class BotExecutor implements Executor {
+    /**
+     * The system property to configure the amount of platform threads.
+     */
+    public static final String THREADS_PROPERTY = "javacord.bot.executorThreads";
+
+    /**
+     * The system property to configure the maximum amount of queued tasks.
+     */
+    public static final String QUEUE_SIZE_PROPERTY = "javacord.bot.executorQueueSize";
+
+    /**
+     * The system property to run tasks on virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "javacord.bot.virtualThreads";
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    private ExecutorService executorService;
+    private ThreadPoolExecutor threadPoolExecutor;
+
+    @PostConstruct
+    void createExecutorService() {
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            executorService = createVirtualThreadExecutorService();
+        }
+        if (executorService == null) {
+            int threads = Integer.getInteger(THREADS_PROPERTY,
+                    Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+            int queueSize = Integer.getInteger(QUEUE_SIZE_PROPERTY, 256);
+            threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueSize), createThreadFactory(),
+                    (runnable, executor) -> {
+                        rejectedTasks.increment();
+                        throw new RejectedExecutionException(String.format(
+                                "The bot executor is saturated with %d active and %d queued tasks",
+                                executor.getActiveCount(), executor.getQueue().size()));
+                    });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executorService = threadPoolExecutor;
+            logger.info("Bot executor uses {} platform threads and a queue for {} tasks", threads, queueSize);
+        }
+
+        metrics.register("executor.activeTasks", activeTasks::get);
+        metrics.register("executor.queuedTasks",
+                () -> (threadPoolExecutor == null) ? 0 : threadPoolExecutor.getQueue().size());
+        metrics.register("executor.completedTasks", completedTasks::sum);
+        metrics.register("executor.rejectedTasks", rejectedTasks::sum);
+    }
+
+    @PreDestroy
+    void shutdownExecutorService() {
+        executorService.shutdown();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(() -> {
+            activeTasks.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                completedTasks.increment();
+            }
+        });
+    }
+
+    /**
+     * Creates an executor service that runs every task on a new virtual thread.
+     *
+     * <p>Virtual threads are looked up reflectively, as the bot is compiled for a Java version without them.
+     *
+     * @return The executor service or {@code null} if the JDK does not support virtual threads.
+     */
+    private ExecutorService createVirtualThreadExecutorService() {
+        try {
+            ExecutorService result = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            logger.info("Bot executor uses virtual threads");
+            return result;
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by this JDK, falling back to platform threads");
+            return null;
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Javacord Bot - Worker - " + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package org.javacord.bot.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Limits the amount of commands that are executed concurrently.
+ *
+ * <p>Commands beyond the limit are not queued but answered right away with an overload notice, so a burst of
+ * commands cannot pile up work in the {@link BotExecutor} that only finishes after their deadlines passed. The limit
+ * can be configured with the {@value #MAX_CONCURRENT_COMMANDS_PROPERTY} system property. The amount of active and
+ * rejected commands is exposed as metrics.
+ */
+@ApplicationScoped
+public class CommandLimiter {
+    /**
+     * The system property to configure the maximum amount of concurrently executed commands.
+     */
+    public static final String MAX_CONCURRENT_COMMANDS_PROPERTY = "javacord.bot.maxConcurrentCommands";
+
+    @Inject
+    DeadlineProvider deadlineProvider;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final int maxConcurrentCommands = Integer.getInteger(MAX_CONCURRENT_COMMANDS_PROPERTY, 64);
+
+    private final Semaphore permits = new Semaphore(maxConcurrentCommands);
+
+    private final LongAdder rejectedCommands = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        metrics.register("commands.active", () -> maxConcurrentCommands - permits.availablePermits());
+        metrics.register("commands.rejected", rejectedCommands::sum);
+    }
+
+    /**
+     * Executes the given command worker with a new command deadline, if the limit is not reached.
+     *
+     * @param worker The worker that creates the embed of the command before the given deadline.
+     * @return The embed of the worker or an overload notice if too many commands are executed already.
+     */
+    public CompletableFuture<EmbedBuilder> execute(Function<Deadline, CompletableFuture<EmbedBuilder>> worker) {
+        if (!permits.tryAcquire()) {
+            rejectedCommands.increment();
+            return CompletableFuture.completedFuture(FailureEmbeds.createBusyEmbed());
+        }
+
+        CompletableFuture<EmbedBuilder> embed;
+        try {
+            embed = worker.apply(deadlineProvider.newCommandDeadline());
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        embed.whenComplete((__, throwable) -> permits.release());
+        return embed;
+    }
+}
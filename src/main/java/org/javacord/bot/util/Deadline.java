@@ -0,0 +1,123 @@
+package org.javacord.bot.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The point in time until which the result of a command is still useful.
+ *
+ * <p>A deadline travels with the command to everything it waits for. Once it has passed, waiting futures fail with
+ * a {@link DeadlineExceededException} and the work behind them is cancelled, so abandoned commands do not keep
+ * threads and connections busy.
+ */
+public class Deadline {
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Runnable exceededListener;
+    private final AtomicBoolean exceeded = new AtomicBoolean();
+
+    /**
+     * Creates a new deadline.
+     *
+     * @param timeout          The time from now until the deadline.
+     * @param scheduler        The scheduler to time out waiting futures on.
+     * @param exceededListener A listener that is called once when the deadline is exceeded.
+     */
+    Deadline(Duration timeout, ScheduledExecutorService scheduler, Runnable exceededListener) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        this.scheduler = scheduler;
+        this.exceededListener = exceededListener;
+    }
+
+    /**
+     * Gets the time that is left until the deadline.
+     *
+     * @return The remaining time, negative if the deadline has passed.
+     */
+    public Duration getRemaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     *
+     * @return Whether the deadline has passed.
+     */
+    public boolean isExceeded() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Throws if the deadline has passed, to not start work whose result is no longer needed.
+     *
+     * @throws DeadlineExceededException If the deadline has passed.
+     */
+    public void check() {
+        if (isExceeded()) {
+            throw exceed();
+        }
+    }
+
+    /**
+     * Bounds waiting for the given future by this deadline.
+     *
+     * <p>If the deadline passes first, the returned future fails with a {@link DeadlineExceededException} and the
+     * given future is cancelled.
+     *
+     * @param future The future to wait for.
+     * @param <T>    The type of the result.
+     * @return A future with the result of the given future.
+     */
+    public <T> CompletableFuture<T> bound(CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return future;
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            future.cancel(false);
+            return CompletableFuture.failedFuture(exceed());
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
+            // only counts as exceeded if the given future did not complete in the meantime
+            if (result.completeExceptionally(createException())) {
+                markExceeded();
+                future.cancel(false);
+            }
+        }, remainingNanos, TimeUnit.NANOSECONDS);
+        future.whenComplete((value, throwable) -> {
+            // the timeout is no longer needed, do not keep it queued until the deadline
+            timeoutTask.cancel(false);
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return result;
+    }
+
+    private DeadlineExceededException exceed() {
+        markExceeded();
+        return createException();
+    }
+
+    private void markExceeded() {
+        if (exceeded.compareAndSet(false, true)) {
+            exceededListener.run();
+        }
+    }
+
+    private DeadlineExceededException createException() {
+        return new DeadlineExceededException(String.format("Did not complete within %d ms", timeout.toMillis()));
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.javacord.bot.util;
+
+/**
+ * An exception that is thrown if a command did not complete before its {@link Deadline}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Creates a new deadline exceeded exception.
+     *
+     * @param message The detail message.
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.javacord.bot.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.javacord.api.DiscordApi;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provides the deadlines for command executions.
+ *
+ * <p>The time a command may take can be configured with the {@value #COMMAND_TIMEOUT_PROPERTY} system property as
+ * ISO-8601 duration. The amount of exceeded deadlines is exposed as metric.
+ */
+@ApplicationScoped
+public class DeadlineProvider {
+    /**
+     * The system property to configure the time a command may take.
+     */
+    public static final String COMMAND_TIMEOUT_PROPERTY = "javacord.bot.commandTimeout";
+
+    @Inject
+    DiscordApi api;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final Duration commandTimeout = Duration.parse(System.getProperty(COMMAND_TIMEOUT_PROPERTY, "PT15S"));
+
+    private final LongAdder exceededDeadlines = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        metrics.register("deadlines.exceeded", exceededDeadlines::sum);
+    }
+
+    /**
+     * Starts the deadline for a command execution.
+     *
+     * @return The deadline for a command execution that starts now.
+     */
+    public Deadline newCommandDeadline() {
+        return new Deadline(commandTimeout, api.getThreadPool().getDaemonScheduler(), exceededDeadlines::increment);
+    }
+}
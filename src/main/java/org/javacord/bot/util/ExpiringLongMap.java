@@ -0,0 +1,286 @@
+package org.javacord.bot.util;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * A bounded map from {@code long} keys to {@code long} values whose entries expire after a time to live.
+ *
+ * <p>Keys and values are stored in primitive arrays of an open-addressing hash table, so an entry takes a few dozen
+ * bytes and lookups neither box nor allocate. The entries are additionally kept in insertion order in a ring buffer
+ * of twice the capacity, which is compacted once it is full of removed keys.
+ * If the map is full, the oldest entry is evicted, and expired entries are evicted whenever a new key is put.
+ * Putting a present key again keeps its position in the insertion order.
+ *
+ * <p>The key {@code 0} is reserved to mark free slots and must not be used, which is never an issue for Discord
+ * ids. All methods are thread-safe.
+ */
+public class ExpiringLongMap {
+
+    private static final long FREE = 0;
+
+    private final long ttlMillis;
+    private final int capacity;
+
+    private final long[] keys;
+    private final long[] values;
+    private final long[] expirations;
+
+    /**
+     * The insertion sequence number of the entry in every slot, to tell it apart from earlier entries with the same
+     * key that are still in the {@link #insertionOrder}.
+     */
+    private final long[] sequences;
+    private final int mask;
+
+    /**
+     * The keys in insertion order, starting at {@link #head}. The entry at offset {@code i} from the head has the
+     * sequence number {@code headSequence + i}. Keys that were removed or inserted again in the meantime are skipped.
+     */
+    private final long[] insertionOrder;
+    private final int insertionOrderSize;
+    private int head;
+    private long headSequence;
+    private int insertionCount;
+
+    private int size;
+
+    /**
+     * Creates a new expiring map.
+     *
+     * @param capacity The maximum amount of entries.
+     * @param ttl      The time after which an entry expires.
+     */
+    public ExpiringLongMap(int capacity, Duration ttl) {
+        this.capacity = capacity;
+        this.ttlMillis = ttl.toMillis();
+        // keep the load factor at or below one half
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        keys = new long[tableSize];
+        values = new long[tableSize];
+        expirations = new long[tableSize];
+        sequences = new long[tableSize];
+        mask = tableSize - 1;
+        insertionOrderSize = 2 * capacity;
+        insertionOrder = new long[insertionOrderSize];
+    }
+
+    /**
+     * Puts an entry that expires after the time to live of this map.
+     *
+     * @param key   The key, must not be {@code 0}.
+     * @param value The value.
+     */
+    public void put(long key, long value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * Puts an entry that expires at the given time.
+     *
+     * @param key              The key, must not be {@code 0}.
+     * @param value            The value.
+     * @param expirationMillis The epoch millisecond at which the entry expires.
+     */
+    public synchronized void put(long key, long value, long expirationMillis) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("The key 0 is reserved");
+        }
+        long now = System.currentTimeMillis();
+        if (expirationMillis <= now) {
+            return;
+        }
+
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = value;
+            expirations[slot] = expirationMillis;
+            return;
+        }
+        evict(now);
+        // the eviction moves entries within the table
+        slot = -find(key) - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        expirations[slot] = expirationMillis;
+        sequences[slot] = headSequence + insertionCount;
+        size++;
+        insertionOrder[(head + insertionCount) % insertionOrderSize] = key;
+        insertionCount++;
+    }
+
+    /**
+     * Gets the value of the given key.
+     *
+     * @param key The key.
+     * @return The value if the key is present and did not expire yet.
+     */
+    public synchronized OptionalLong get(long key) {
+        int slot = find(key);
+        if ((slot < 0) || (expirations[slot] <= System.currentTimeMillis())) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(values[slot]);
+    }
+
+    /**
+     * Removes the given key.
+     *
+     * @param key The key.
+     * @return The value if the key was present and did not expire yet.
+     */
+    public synchronized OptionalLong remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return OptionalLong.empty();
+        }
+        boolean expired = expirations[slot] <= System.currentTimeMillis();
+        long value = values[slot];
+        removeSlot(slot);
+        return expired ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    /**
+     * Gets the amount of entries, including expired entries that were not evicted yet.
+     *
+     * @return The amount of entries.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Passes every entry that did not expire yet to the given consumer, in insertion order.
+     *
+     * @param consumer The consumer for the entries.
+     */
+    public synchronized void forEach(EntryConsumer consumer) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < insertionCount; i++) {
+            long key = insertionOrder[(head + i) % insertionOrderSize];
+            int slot = findInserted(key, headSequence + i);
+            if ((slot >= 0) && (expirations[slot] > now)) {
+                consumer.accept(key, values[slot], expirations[slot]);
+            }
+        }
+    }
+
+    /**
+     * Evicts the oldest entries while they are expired or the map is full, and makes room for one more key in the
+     * insertion order.
+     */
+    private void evict(long now) {
+        while (insertionCount > 0) {
+            long key = insertionOrder[head];
+            int slot = findInserted(key, headSequence);
+            // keys that were removed or inserted again in the meantime are just skipped
+            if ((slot >= 0) && (expirations[slot] > now) && (size < capacity)) {
+                break;
+            }
+            if (slot >= 0) {
+                removeSlot(slot);
+            }
+            head = (head + 1) % insertionOrderSize;
+            headSequence++;
+            insertionCount--;
+        }
+        if (insertionCount == insertionOrderSize) {
+            compactInsertionOrder();
+        }
+    }
+
+    /**
+     * Drops the keys that were removed or inserted again from the insertion order. As the map holds less entries
+     * than its capacity, at least half of the insertion order is dropped.
+     */
+    private void compactInsertionOrder() {
+        long[] liveKeys = new long[size];
+        int liveCount = 0;
+        for (int i = 0; i < insertionCount; i++) {
+            long key = insertionOrder[(head + i) % insertionOrderSize];
+            int slot = findInserted(key, headSequence + i);
+            if (slot >= 0) {
+                sequences[slot] = headSequence + liveCount;
+                liveKeys[liveCount++] = key;
+            }
+        }
+        System.arraycopy(liveKeys, 0, insertionOrder, 0, liveCount);
+        head = 0;
+        insertionCount = liveCount;
+    }
+
+    /**
+     * Finds the slot of the given key.
+     *
+     * @return The slot of the key, or {@code -slot - 1} with the free slot where the key would be inserted.
+     */
+    private int find(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Finds the slot of the given key if it still holds the entry with the given insertion sequence number.
+     *
+     * @return The slot of the entry, or a negative number if the entry was removed.
+     */
+    private int findInserted(long key, long sequence) {
+        int slot = find(key);
+        return ((slot >= 0) && (sequences[slot] == sequence)) ? slot : -1;
+    }
+
+    /**
+     * Frees the given slot and shifts back following entries of the probe sequence, so no tombstones are needed.
+     */
+    private void removeSlot(int slot) {
+        size--;
+        int free = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            if (keys[current] == FREE) {
+                break;
+            }
+            int home = hash(keys[current]) & mask;
+            // move the entry if its home slot is not cyclically between the free slot and its current slot
+            boolean reachable = (free <= current)
+                    ? ((free < home) && (home <= current))
+                    : ((free < home) || (home <= current));
+            if (!reachable) {
+                keys[free] = keys[current];
+                values[free] = values[current];
+                expirations[free] = expirations[current];
+                sequences[free] = sequences[current];
+                free = current;
+            }
+        }
+        keys[free] = FREE;
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * A consumer for the entries of an expiring map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Accepts an entry.
+         *
+         * @param key              The key.
+         * @param value            The value.
+         * @param expirationMillis The epoch millisecond at which the entry expires.
+         */
+        void accept(long key, long value, long expirationMillis);
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.javacord.bot.util;
+
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.bot.Constants;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The embeds that commands respond with if they fail.
+ */
+public final class FailureEmbeds {
+
+    private FailureEmbeds() { /* nope */ }
+
+    /**
+     * Creates the embed for an expected failure, that is a passed deadline or an overloaded bot.
+     *
+     * @param throwable The failure.
+     * @return The embed for the failure if it is expected, otherwise it should be logged and reported as error.
+     */
+    public static Optional<EmbedBuilder> forExpectedFailure(Throwable throwable) {
+        Throwable cause = ExceptionLogger.unwrapThrowable(throwable);
+        if (cause instanceof DeadlineExceededException) {
+            return Optional.of(createTimeoutEmbed());
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return Optional.of(createBusyEmbed());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the embed for commands that did not finish before their deadline.
+     *
+     * @return The timeout embed.
+     */
+    public static EmbedBuilder createTimeoutEmbed() {
+        return new EmbedBuilder()
+                .setTitle("Timeout")
+                .setDescription("This took too long, please try again later.")
+                .setColor(Constants.ERROR_COLOR);
+    }
+
+    /**
+     * Creates the overload notice for commands that are not executed because the bot is too busy.
+     *
+     * @return The overload notice.
+     */
+    public static EmbedBuilder createBusyEmbed() {
+        return new EmbedBuilder()
+                .setTitle("Busy")
+                .setDescription("Too many commands are running right now, please try again later.")
+                .setColor(Constants.ERROR_COLOR);
+    }
+
+    /**
+     * Creates the embed for commands that failed unexpectedly.
+     *
+     * @param throwable The failure.
+     * @return The error embed.
+     */
+    public static EmbedBuilder createErrorEmbed(Throwable throwable) {
+        return new EmbedBuilder()
+                .setTitle("Error")
+                .setDescription(String.format(
+                        "Something went wrong: ```%s```",
+                        ExceptionLogger.unwrapThrowable(throwable).getMessage()))
+                .setColor(Constants.ERROR_COLOR);
+    }
+}
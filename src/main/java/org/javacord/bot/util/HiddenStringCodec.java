@@ -0,0 +1,138 @@
+package org.javacord.bot.util;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Encodes strings into invisible zero-width characters that can be hidden in message contents.
+ *
+ * <p>The current version 2 starts with a version marker and encodes every UTF-8 byte as two symbols of a 16 character
+ * zero-width alphabet. Version 1 encoded every byte as a variable-length binary number of two zero-width characters
+ * with separators in between, it can still be decoded for messages that were sent before. Both versions are
+ * terminated by an end marker.
+ */
+public final class HiddenStringCodec {
+
+    private static final char VERSION_2_MARKER = '\u2060';
+    private static final char END_MARKER = '\u200E';
+
+    private static final char VERSION_1_ZERO = '\u200B';
+    private static final char VERSION_1_ONE = '\u200C';
+    private static final char VERSION_1_SEPARATOR = '\u200D';
+
+    /**
+     * The zero-width characters that encode the values of a nibble in version 2.
+     */
+    private static final char[] SYMBOLS = {
+            '\u200B', '\u200C', '\u200D', '\u2061', '\u2062', '\u2063', '\u2064', '\u206A',
+            '\u206B', '\u206C', '\u206D', '\u206E', '\u206F', '\uFEFF', '\u034F', '\u180E'
+    };
+
+    /**
+     * The {@link #SYMBOLS} in ascending order to binary search them while decoding.
+     */
+    private static final char[] SORTED_SYMBOLS = SYMBOLS.clone();
+
+    /**
+     * The nibble values of the {@link #SORTED_SYMBOLS}.
+     */
+    private static final byte[] SORTED_SYMBOL_VALUES = new byte[SYMBOLS.length];
+
+    static {
+        Arrays.sort(SORTED_SYMBOLS);
+        for (int i = 0; i < SORTED_SYMBOLS.length; i++) {
+            for (byte value = 0; value < SYMBOLS.length; value++) {
+                if (SYMBOLS[value] == SORTED_SYMBOLS[i]) {
+                    SORTED_SYMBOL_VALUES[i] = value;
+                }
+            }
+        }
+    }
+
+    private HiddenStringCodec() { /* nope */ }
+
+    /**
+     * Encodes the given string.
+     *
+     * @param text The string to encode.
+     * @return The zero-width encoding of the string, including the end marker.
+     */
+    public static String encode(String text) {
+        byte[] bytes = text.getBytes(UTF_8);
+        char[] encoded = new char[2 + 2 * bytes.length];
+        int position = 0;
+        encoded[position++] = VERSION_2_MARKER;
+        for (byte b : bytes) {
+            encoded[position++] = SYMBOLS[(b >>> 4) & 0xF];
+            encoded[position++] = SYMBOLS[b & 0xF];
+        }
+        encoded[position] = END_MARKER;
+        return new String(encoded);
+    }
+
+    /**
+     * Decodes the string that is encoded at the start of the given content, in any version.
+     *
+     * @param content The content that starts with an encoded string.
+     * @return The decoded string.
+     * @throws IllegalArgumentException If the content does not start with an encoded string.
+     */
+    public static String decode(String content) {
+        int end = content.indexOf(END_MARKER);
+        if (end < 0) {
+            throw new IllegalArgumentException("End marker not found");
+        }
+        if ((end > 0) && (content.charAt(0) == VERSION_2_MARKER)) {
+            return decodeVersion2(content, end);
+        }
+        return decodeVersion1(content, end);
+    }
+
+    private static String decodeVersion2(String content, int end) {
+        int length = end - 1;
+        if ((length % 2) != 0) {
+            throw new IllegalArgumentException("Incomplete byte in encoded string");
+        }
+        byte[] bytes = new byte[length / 2];
+        for (int i = 0, position = 1; i < bytes.length; i++) {
+            int high = symbolValue(content.charAt(position++));
+            int low = symbolValue(content.charAt(position++));
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    private static int symbolValue(char symbol) {
+        int index = Arrays.binarySearch(SORTED_SYMBOLS, symbol);
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("Unexpected character U+%04X", (int) symbol));
+        }
+        return SORTED_SYMBOL_VALUES[index];
+    }
+
+    private static String decodeVersion1(String content, int end) {
+        // every byte but the last one takes at least one character
+        byte[] bytes = new byte[end + 1];
+        int length = 0;
+        int value = 0;
+        for (int position = 0; position < end; position++) {
+            char c = content.charAt(position);
+            if (c == VERSION_1_ZERO) {
+                value <<= 1;
+            } else if (c == VERSION_1_ONE) {
+                value = (value << 1) | 1;
+            } else if (c == VERSION_1_SEPARATOR) {
+                bytes[length++] = (byte) value;
+                value = 0;
+            } else {
+                throw new IllegalArgumentException(String.format("Unexpected character U+%04X", (int) c));
+            }
+        }
+        if (end > 0) {
+            bytes[length++] = (byte) value;
+        }
+        return new String(bytes, 0, length, UTF_8);
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.javacord.bot.util;
+
+import java.util.Optional;
+
+/**
+ * A CDI event that is fired when the latest release version of Javacord changed.
+ */
+public class LatestVersionChangedEvent {
+
+    private final String previousVersion;
+    private final String latestVersion;
+
+    /**
+     * Creates a new latest version changed event.
+     *
+     * @param previousVersion The previously known version, or an empty string if none was known.
+     * @param latestVersion   The new latest version.
+     */
+    public LatestVersionChangedEvent(String previousVersion, String latestVersion) {
+        this.previousVersion = previousVersion;
+        this.latestVersion = latestVersion;
+    }
+
+    /**
+     * Gets the previously known version.
+     *
+     * @return The previously known version if one was known.
+     */
+    public Optional<String> getPreviousVersion() {
+        return previousVersion.isEmpty() ? Optional.empty() : Optional.of(previousVersion);
+    }
+
+    /**
+     * Gets the new latest version.
+     *
+     * @return The new latest version.
+     */
+    public String getLatestVersion() {
+        return latestVersion;
+    }
+
+}
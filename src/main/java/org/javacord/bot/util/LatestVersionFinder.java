@@ -2,78 +2,191 @@ package org.javacord.bot.util;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.util.logging.ExceptionLogger;
 import org.javacord.bot.Constants;
+import org.javacord.bot.util.http.CircuitBreakerRegistry;
+import org.javacord.bot.util.http.HttpCaching;
+import org.javacord.bot.util.http.UpstreamUnavailableException;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Keeps the latest release version of Javacord in memory.
+ *
+ * <p>The version is polled from Maven Central in the background and served from memory. Once the version is older
+ * than its time to live, it is still served immediately while a revalidation runs in the background. Whenever the
+ * version changes, a {@link LatestVersionChangedEvent} is fired. While Maven Central is unavailable, the last known
+ * version is served.
+ *
+ * <p>Until Maven Central answered for the first time, a version can be seeded from persisted state, so a restart does
+ * not have to wait for Maven Central. A seeded version is served like an outdated one and revalidated right away.
+ *
+ * <p>The time to live can be configured with the {@value #TTL_PROPERTY} system property as ISO-8601 duration.
+ */
 @ApplicationScoped
 public class LatestVersionFinder {
+    /**
+     * The system property to configure the time to live of the latest version.
+     */
+    public static final String TTL_PROPERTY = "javacord.bot.latestVersionTtl";
+
     @Inject
     Logger logger;
 
     @Inject
     DiscordApi api;
 
-    private static final OkHttpClient client = new OkHttpClient();
+    @Inject
+    MetricsRegistry metrics;
+
+    @Inject
+    BotExecutor executor;
+
+    @Inject
+    OkHttpClient client;
+
+    @Inject
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Inject
+    Event<LatestVersionChangedEvent> latestVersionChangedEvent;
 
     private static final Pattern XML_VERSION = Pattern
             .compile("<latest>(\\d+\\.\\d+\\.\\d+)<\\/latest>", Pattern.MULTILINE);
 
+    private final Duration ttl = Duration.parse(System.getProperty(TTL_PROPERTY, "PT15M"));
+
     private volatile String latestVersion = "";
 
+    /**
+     * The {@link System#nanoTime()} at which the latest version was last confirmed.
+     */
+    private volatile long lastUpdateNanos;
+
+    /**
+     * Whether the latest version was seeded and not yet confirmed by Maven Central.
+     */
+    private volatile boolean seeded;
+
+    /**
+     * The in-flight request for the latest version, shared by all concurrent callers.
+     */
+    private final SingleFlight<String, String> versionRequests = new SingleFlight<>();
+
     /**
      * Initialize the latest version finder.
      */
     @PostConstruct
     void populateWithLatestVersion() {
-        ExecutorService executorService = api.getThreadPool().getExecutorService();
-        CompletableFuture
-                .supplyAsync(this::getAndUpdateVersionSync, executorService)
-                .whenComplete((__, throwable) -> {
-                    if (throwable != null) {
-                        logger
-                                .atError()
-                                .withThrowable(throwable)
-                                .log("Exception while populating the latest version finder");
-                    }
-                });
+        metrics.register("latestVersion", versionRequests);
+        poll();
     }
 
     /**
      * Obtain the latest release version of Javacord.
      *
+     * <p>The version is served from memory. If it is older than its time to live, a revalidation is started in the
+     * background. Only if no version is known yet, this waits for the request to Maven Central.
+     *
      * <p>If the version cannot be obtained, the last successfully retrieved version will be used instead.
      *
      * @return The most recent release version.
      */
     public CompletableFuture<String> findLatestVersion() {
-        ExecutorService executorService = api.getThreadPool().getExecutorService();
-        return CompletableFuture
-                .supplyAsync(this::getAndUpdateVersionSync, executorService)
-                .exceptionally(throwable -> {
-                    logger
-                            .atError()
-                            .withThrowable(throwable)
-                            .log("Exception while finding the latest version");
-                    return latestVersion;
+        String version = latestVersion;
+        if (version.isEmpty()) {
+            return requestLatestVersion()
+                    .exceptionally(throwable -> {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while finding the latest version");
+                        return latestVersion;
+                    });
+        }
+
+        if (System.nanoTime() - lastUpdateNanos > ttl.toNanos()) {
+            revalidate("Exception while revalidating the latest version");
+        }
+        return CompletableFuture.completedFuture(version);
+    }
+
+    /**
+     * Seeds the latest version from persisted state if no version is known yet.
+     *
+     * <p>The seeded version is served until Maven Central answers. If it differs from the version of Maven Central, a
+     * {@link LatestVersionChangedEvent} is fired as usual.
+     *
+     * @param version The last known version.
+     */
+    public synchronized void seedVersion(String version) {
+        if (!latestVersion.isEmpty() || version.isEmpty()) {
+            return;
+        }
+        latestVersion = version;
+        seeded = true;
+        // outdated right away, so the next request revalidates it
+        lastUpdateNanos = System.nanoTime() - ttl.toNanos() - 1;
+        logger.info("Seeded latest Javacord version {}", version);
+    }
+
+    /**
+     * Requests the latest version and schedules the next poll after the time to live with some jitter, so several
+     * instances of the bot do not hit Maven Central in lockstep.
+     */
+    private void poll() {
+        revalidate("Exception while polling the latest version");
+        long ttlMillis = ttl.toMillis();
+        long jitterMillis = ThreadLocalRandom.current().nextLong(ttlMillis / 10 + 1);
+        api.getThreadPool().getDaemonScheduler().schedule(this::poll, ttlMillis + jitterMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void revalidate(String errorMessage) {
+        requestLatestVersion()
+                .whenComplete((__, throwable) -> {
+                    if (ExceptionLogger.unwrapThrowable(throwable) instanceof UpstreamUnavailableException) {
+                        logger.debug("Skipped revalidating the latest version: {}", throwable.getMessage());
+                    } else if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log(errorMessage);
+                    }
                 });
     }
 
+    private CompletableFuture<String> requestLatestVersion() {
+        return versionRequests.execute(Constants.LATEST_VERSION_URL, () -> circuitBreakers
+                .get(CircuitBreakerRegistry.MAVEN_CENTRAL)
+                .execute(() -> CompletableFuture.supplyAsync(this::getAndUpdateVersionSync, executor)));
+    }
+
     private String getAndUpdateVersionSync() {
         Request request = new Request.Builder()
                 .url(Constants.LATEST_VERSION_URL)
+                .cacheControl(HttpCaching.REVALIDATE)
                 .build();
-        try (ResponseBody body = client.newCall(request).execute().body()) {
+        try (Response response = client.newCall(request).execute()) {
+            if (HttpCaching.isNotModified(response) && !this.latestVersion.isEmpty() && !seeded) {
+                // Unchanged since the last request, no need to parse it again
+                lastUpdateNanos = System.nanoTime();
+                return this.latestVersion;
+            }
+            ResponseBody body = response.body();
             if (body == null) {
                 throw new RuntimeException("Error while requesting the latest version: No response body.");
             }
@@ -88,8 +201,17 @@ public class LatestVersionFinder {
                 throw new AssertionError("Latest Version API result differs from expectation");
             }
             // Set cached version
-            this.latestVersion = latestVersion;
-            // Eventually clean up update task
+            String previousVersion;
+            synchronized (this) {
+                previousVersion = this.latestVersion;
+                this.latestVersion = latestVersion;
+                seeded = false;
+                lastUpdateNanos = System.nanoTime();
+            }
+            if (!latestVersion.equals(previousVersion)) {
+                logger.info("Latest Javacord version is {}", latestVersion);
+                latestVersionChangedEvent.fire(new LatestVersionChangedEvent(previousVersion, latestVersion));
+            }
             return latestVersion;
         } catch (NullPointerException | IOException e) {
             throw new RuntimeException("Error while requesting the latest version", e);
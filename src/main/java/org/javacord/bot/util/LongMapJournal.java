@@ -0,0 +1,121 @@
+package org.javacord.bot.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only file that persists the entries of an {@link ExpiringLongMap} across restarts.
+ *
+ * <p>Every put is appended as a fixed-size record of key, value and expiration. On load, the entries that did not
+ * expire yet are put into the map and the file is compacted to them. Whenever the file holds a lot more records than
+ * the map has entries, it is compacted again, so it does not grow without bounds. Removals are not recorded, removed
+ * entries come back after a restart until they expire.
+ */
+public class LongMapJournal implements Closeable {
+
+    private static final int RECORD_SIZE = 3 * Long.BYTES;
+
+    /**
+     * The amount of records that may be appended beyond twice the live entries before the file is compacted.
+     */
+    private static final int COMPACTION_SLACK = 1024;
+
+    private final Path file;
+    private final ExpiringLongMap map;
+
+    // guarded by this
+    private FileChannel channel;
+    private long recordCount;
+    private long compactionThreshold;
+
+    /**
+     * Creates a new journal.
+     *
+     * @param file The journal file.
+     * @param map  The map whose entries are journaled.
+     */
+    public LongMapJournal(Path file, ExpiringLongMap map) {
+        this.file = file;
+        this.map = map;
+    }
+
+    /**
+     * Puts the entries of the journal file that did not expire yet into the map and opens the file for appending.
+     *
+     * @throws IOException If the journal file could not be read or written.
+     */
+    public synchronized void load() throws IOException {
+        if (Files.isRegularFile(file)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            // an incomplete last record of an interrupted append is ignored
+            while (buffer.remaining() >= RECORD_SIZE) {
+                map.put(buffer.getLong(), buffer.getLong(), buffer.getLong());
+            }
+        }
+        compact();
+    }
+
+    /**
+     * Appends an entry that was put into the map.
+     *
+     * @param key              The key.
+     * @param value            The value.
+     * @param expirationMillis The epoch millisecond at which the entry expires.
+     * @throws IOException If the record could not be written.
+     */
+    public synchronized void append(long key, long value, long expirationMillis) throws IOException {
+        if (channel == null) {
+            throw new IOException("The journal is not loaded");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE)
+                .putLong(key)
+                .putLong(value)
+                .putLong(expirationMillis)
+                .flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (++recordCount > compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the journal file with the live entries of the map and reopens it for appending.
+     */
+    private void compact() throws IOException {
+        close();
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(map.size() * RECORD_SIZE);
+        map.forEach((key, value, expirationMillis) -> buffer
+                .putLong(key)
+                .putLong(value)
+                .putLong(expirationMillis));
+        buffer.flip();
+        recordCount = buffer.remaining() / RECORD_SIZE;
+        try (FileChannel tempChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                tempChannel.write(buffer);
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        compactionThreshold = 2 * recordCount + COMPACTION_SLACK;
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.javacord.bot.util;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of named counters and gauges.
+ *
+ * <p>The current values are exposed as attributes of the JMX MBean {@value #OBJECT_NAME}, so they can be inspected
+ * with tools like JConsole or VisualVM while the bot is running.
+ */
+@ApplicationScoped
+public class MetricsRegistry {
+    /**
+     * The object name of the MBean that exposes the metrics.
+     */
+    public static final String OBJECT_NAME = "org.javacord.bot:type=Metrics";
+
+    @Inject
+    Logger logger;
+
+    private final Map<String, LongSupplier> metrics = new ConcurrentSkipListMap<>();
+
+    void registerMBean(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            logger
+                    .atWarn()
+                    .withThrowable(e)
+                    .log("Could not register the metrics MBean");
+        }
+    }
+
+    @PreDestroy
+    void unregisterMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            logger
+                    .atWarn()
+                    .withThrowable(e)
+                    .log("Could not unregister the metrics MBean");
+        }
+    }
+
+    /**
+     * Registers a metric, replacing any previously registered metric with the same name.
+     *
+     * @param name  The name of the metric, for example "latestVersion.coalescedCalls".
+     * @param value The supplier of the current value of the metric.
+     */
+    public void register(String name, LongSupplier value) {
+        metrics.put(name, value);
+    }
+
+    /**
+     * Registers the call counters of the given single-flight group.
+     *
+     * @param name         The name prefix of the metrics.
+     * @param singleFlight The single-flight group.
+     */
+    public void register(String name, SingleFlight<?, ?> singleFlight) {
+        register(name + ".calls", singleFlight::getCallCount);
+        register(name + ".coalescedCalls", singleFlight::getCoalescedCallCount);
+        register(name + ".cancelledCalls", singleFlight::getCancelledCallCount);
+    }
+
+    private class MetricsMBean implements DynamicMBean {
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            LongSupplier value = metrics.get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value.getAsLong();
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read-only");
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList result = new AttributeList();
+            for (String attribute : attributes) {
+                LongSupplier value = metrics.get(attribute);
+                if (value != null) {
+                    result.add(new Attribute(attribute, value.getAsLong()));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException("The metrics MBean has no operations");
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            MBeanAttributeInfo[] attributes = metrics
+                    .keySet()
+                    .stream()
+                    .map(name -> new MBeanAttributeInfo(name, "long", name, true, false, false))
+                    .toArray(MBeanAttributeInfo[]::new);
+            return new MBeanInfo(MetricsMBean.class.getName(), "Metrics of the Javacord bot",
+                    attributes, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.javacord.bot.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call.
+ *
+ * <p>While a call for a key is running, further calls for the same key do not start another call but share the
+ * result of the running one. As soon as the call is completed, the next call for the key starts a new one.
+ *
+ * <p>Every caller gets its own copy of the shared future. Cancelling a copy only affects that caller, but once all
+ * callers cancelled their copies, nobody waits for the result any more and the in-flight call is cancelled as well.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the results.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, InFlightCall<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final LongAdder callCount = new LongAdder();
+
+    private final LongAdder coalescedCallCount = new LongAdder();
+
+    private final LongAdder cancelledCallCount = new LongAdder();
+
+    /**
+     * Executes the given call for the given key, unless a call for the key is already in flight.
+     *
+     * <p>Every caller gets its own copy of the shared future. Cancelling it does not affect other callers, but if
+     * all callers cancelled their copies, the in-flight call is cancelled.
+     *
+     * @param key  The key that identifies the requested resource.
+     * @param call The call that fetches the resource.
+     * @return The result of the in-flight call for the key.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        callCount.increment();
+        InFlightCall<V> newCall = new InFlightCall<>();
+        InFlightCall<V> inFlightCall = inFlightCalls.compute(key, (__, existingCall) ->
+                ((existingCall != null) && existingCall.addWaiter()) ? existingCall : newCall);
+        if (inFlightCall != newCall) {
+            coalescedCallCount.increment();
+            return waitFor(key, inFlightCall);
+        }
+
+        CompletableFuture<V> result = newCall.result;
+        try {
+            newCall.call = call.get();
+            newCall.call.whenComplete((value, throwable) -> {
+                inFlightCalls.remove(key, newCall);
+                if (throwable == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightCalls.remove(key, newCall);
+            result.completeExceptionally(e);
+        }
+        return waitFor(key, newCall);
+    }
+
+    private CompletableFuture<V> waitFor(K key, InFlightCall<V> inFlightCall) {
+        CompletableFuture<V> copy = inFlightCall.result.copy();
+        copy.whenComplete((__, throwable) -> {
+            if (copy.isCancelled() && inFlightCall.removeWaiter()) {
+                // nobody waits for the result any more
+                inFlightCalls.remove(key, inFlightCall);
+                cancelledCallCount.increment();
+                CompletableFuture<V> call = inFlightCall.call;
+                if (call != null) {
+                    call.cancel(false);
+                }
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Gets the total amount of calls.
+     *
+     * @return The total amount of calls.
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * Gets the amount of calls that shared the result of an in-flight call instead of starting their own.
+     *
+     * @return The amount of coalesced calls.
+     */
+    public long getCoalescedCallCount() {
+        return coalescedCallCount.sum();
+    }
+
+    /**
+     * Gets the amount of in-flight calls that were cancelled because all callers cancelled their copies.
+     *
+     * @return The amount of cancelled calls.
+     */
+    public long getCancelledCallCount() {
+        return cancelledCallCount.sum();
+    }
+
+    /**
+     * An in-flight call with the amount of callers that still wait for its result.
+     */
+    private static class InFlightCall<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile CompletableFuture<V> call;
+
+        /**
+         * Adds a waiter, unless all previous waiters already gave up.
+         */
+        private boolean addWaiter() {
+            int current;
+            do {
+                current = waiters.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!waiters.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Removes a waiter and returns whether it was the last one.
+         */
+        private boolean removeWaiter() {
+            return waiters.decrementAndGet() == 0;
+        }
+    }
+
+}
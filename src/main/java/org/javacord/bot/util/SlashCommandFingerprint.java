@@ -0,0 +1,86 @@
+package org.javacord.bot.util;
+
+import org.javacord.api.interaction.SlashCommandOption;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A content hash of slash command definitions to find out whether the registered slash commands are up-to-date.
+ *
+ * <p>The hash covers the names, descriptions, options and choices of the commands. It does not depend on the order
+ * in which the commands are added, but on the order of their options, just like Discord does.
+ */
+public class SlashCommandFingerprint {
+
+    /**
+     * The canonical form of every added command, sorted by name.
+     */
+    private final Map<String, byte[]> commands = new TreeMap<>();
+
+    /**
+     * Adds a command definition.
+     *
+     * @param name        The name of the command.
+     * @param description The description of the command.
+     * @param options     The options of the command.
+     * @return This fingerprint for call chaining.
+     */
+    public SlashCommandFingerprint addCommand(String name, String description, List<SlashCommandOption> options) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(name);
+            out.writeUTF(description);
+            writeOptions(out, options);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        commands.put(name, bytes.toByteArray());
+        return this;
+    }
+
+    /**
+     * Computes the hash of the added command definitions.
+     *
+     * @return The hexadecimal SHA-256 hash.
+     */
+    public String compute() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new AssertionError("SHA-256 is required to be supported", nsae);
+        }
+        commands.values().forEach(digest::update);
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    private static void writeOptions(DataOutputStream out, List<SlashCommandOption> options) throws IOException {
+        out.writeInt(options.size());
+        for (SlashCommandOption option : options) {
+            out.writeUTF(option.getType().name());
+            out.writeUTF(option.getName());
+            out.writeUTF(option.getDescription());
+            out.writeBoolean(option.isRequired());
+            out.writeBoolean(option.isAutocompletable());
+            List<SlashCommandOptionChoice> choices = option.getChoices();
+            out.writeInt(choices.size());
+            for (SlashCommandOptionChoice choice : choices) {
+                out.writeUTF(choice.getName());
+                out.writeBoolean(choice.getLongValue().isPresent());
+                out.writeUTF(choice.getValueAsString());
+            }
+            writeOptions(out, option.getOptions());
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.javacord.bot.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of canonical string instances, used to store repeated names like packages and classes only once.
+ */
+public class StringPool {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the canonical instance of the given string.
+     *
+     * @param string The string, may be {@code null}.
+     * @return The canonical instance of the string.
+     */
+    public String intern(String string) {
+        if (string == null) {
+            return null;
+        }
+        String pooled = strings.putIfAbsent(string, string);
+        return (pooled == null) ? string : pooled;
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.javacord.bot.util.http;
+
+import org.javacord.api.util.logging.ExceptionLogger;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker with a bulkhead around the calls to one upstream.
+ *
+ * <p>After a number of consecutive failures the breaker opens and rejects all calls right away, so a degraded
+ * upstream does not tie up threads until timeouts. Once the open duration elapsed, one trial call is let through,
+ * which closes the breaker again if it succeeds. Independently, at most a fixed amount of calls may run at the same
+ * time, further calls are rejected. Calls that are cancelled because nobody waits for their result any more count
+ * neither as success nor as failure.
+ */
+public class CircuitBreaker {
+
+    /**
+     * The state of a circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedNanos;
+
+    /**
+     * Creates a new circuit breaker.
+     *
+     * @param name               The name of the upstream.
+     * @param failureThreshold   The amount of consecutive failures that open the breaker.
+     * @param openDuration       How long the breaker stays open before a trial call is let through.
+     * @param maxConcurrentCalls The maximum amount of concurrent calls.
+     */
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, int maxConcurrentCalls) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        bulkhead = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Executes the given call if the breaker permits it.
+     *
+     * @param call The call to the upstream.
+     * @param <T>  The type of the result.
+     * @return The result of the call, or a future that failed with an {@link UpstreamUnavailableException} if the
+     *         call was rejected.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        if (!tryAcquirePermission()) {
+            rejectedCalls.increment();
+            return CompletableFuture.failedFuture(new UpstreamUnavailableException(
+                    String.format("%s is unavailable, its circuit breaker is open", name)));
+        }
+        if (!bulkhead.tryAcquire()) {
+            rejectedCalls.increment();
+            releasePermission();
+            return CompletableFuture.failedFuture(new UpstreamUnavailableException(
+                    String.format("%s is busy with %d concurrent calls", name, maxConcurrentCalls)));
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((__, throwable) -> {
+            bulkhead.release();
+            if (throwable == null) {
+                onSuccess();
+            } else if ((ExceptionLogger.unwrapThrowable(throwable) instanceof CancellationException)
+                    || (ExceptionLogger.unwrapThrowable(throwable) instanceof RejectedExecutionException)) {
+                // nobody waited for the result any more or the bot was too busy, this says nothing about the upstream
+                releasePermission();
+            } else {
+                failedCalls.increment();
+                onFailure();
+            }
+        });
+    }
+
+    /**
+     * Gets the current state.
+     *
+     * @return The current state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the amount of calls that were rejected without trying them.
+     *
+     * @return The amount of rejected calls.
+     */
+    public long getRejectedCallCount() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * Gets the amount of calls that failed.
+     *
+     * @return The amount of failed calls.
+     */
+    public long getFailedCallCount() {
+        return failedCalls.sum();
+    }
+
+    /**
+     * Gets the amount of calls that are currently running.
+     *
+     * @return The amount of running calls.
+     */
+    public int getConcurrentCallCount() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+
+            case OPEN:
+                if (System.nanoTime() - openedNanos < openDurationNanos) {
+                    return false;
+                }
+                // let one trial call through
+                state = State.HALF_OPEN;
+                return true;
+
+            case HALF_OPEN:
+                return false;
+
+            default:
+                throw new AssertionError(String.format("Missing case for state '%s'", state));
+        }
+    }
+
+    /**
+     * Gives back the permission of a call that was not executed or whose outcome is unknown.
+     */
+    private synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if ((state == State.HALF_OPEN) || (consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedNanos = System.nanoTime();
+        }
+    }
+
+}
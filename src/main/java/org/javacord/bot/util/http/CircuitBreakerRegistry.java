@@ -0,0 +1,63 @@
+package org.javacord.bot.util.http;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.javacord.bot.util.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one circuit breaker per upstream and exposes their state as metrics.
+ *
+ * <p>For every upstream, the state (0 closed, 1 open, 2 half-open), the amount of running, failed and rejected calls
+ * are registered as metrics named {@code circuitBreaker.<upstream>.<metric>}.
+ */
+@ApplicationScoped
+public class CircuitBreakerRegistry {
+    /**
+     * The upstream of the javadoc search index files.
+     */
+    public static final String JAVADOC = "javadoc";
+
+    /**
+     * The upstream of the wiki page list.
+     */
+    public static final String WIKI = "wiki";
+
+    /**
+     * The upstream of the latest Javacord version.
+     */
+    public static final String MAVEN_CENTRAL = "mavenCentral";
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int MAX_CONCURRENT_CALLS = 4;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the circuit breaker of the given upstream.
+     *
+     * @param upstream The name of the upstream.
+     * @return The circuit breaker of the upstream.
+     */
+    public CircuitBreaker get(String upstream) {
+        return circuitBreakers.computeIfAbsent(upstream, this::createCircuitBreaker);
+    }
+
+    private CircuitBreaker createCircuitBreaker(String upstream) {
+        CircuitBreaker circuitBreaker =
+                new CircuitBreaker(upstream, FAILURE_THRESHOLD, OPEN_DURATION, MAX_CONCURRENT_CALLS);
+        String prefix = "circuitBreaker." + upstream + '.';
+        metrics.register(prefix + "state", () -> circuitBreaker.getState().ordinal());
+        metrics.register(prefix + "concurrentCalls", circuitBreaker::getConcurrentCallCount);
+        metrics.register(prefix + "failedCalls", circuitBreaker::getFailedCallCount);
+        metrics.register(prefix + "rejectedCalls", circuitBreaker::getRejectedCallCount);
+        return circuitBreaker;
+    }
+}
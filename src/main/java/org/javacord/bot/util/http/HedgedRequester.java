@@ -0,0 +1,167 @@
+package org.javacord.bot.util.http;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.javacord.api.DiscordApi;
+import org.javacord.bot.util.MetricsRegistry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes equivalent requests against several mirrors with hedging.
+ *
+ * <p>The first mirror is requested right away. If it did not answer within the 95th percentile of the recently
+ * observed latencies, or if it failed, the next mirror is requested as well. The first successful response wins and
+ * all other calls are cancelled, so a slow tail of one mirror does not delay the caller.
+ */
+@ApplicationScoped
+public class HedgedRequester {
+    /**
+     * The amount of samples that are needed before the observed latencies are used for the hedging delay.
+     */
+    private static final int MIN_SAMPLES = 8;
+
+    private static final long DEFAULT_HEDGE_DELAY_MILLIS = 1000;
+    private static final long MIN_HEDGE_DELAY_MILLIS = 50;
+    private static final long MAX_HEDGE_DELAY_MILLIS = 5000;
+
+    @Inject
+    OkHttpClient client;
+
+    @Inject
+    DiscordApi api;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final LatencyTracker latencies = new LatencyTracker(128);
+
+    private final LongAdder hedgedRequests = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        metrics.register("hedging.hedgedRequests", hedgedRequests::sum);
+        metrics.register("hedging.hedgeWins", hedgeWins::sum);
+        metrics.register("hedging.delayMillis", this::getHedgeDelayMillis);
+    }
+
+    /**
+     * Executes the given equivalent requests with hedging.
+     *
+     * <p>Cancelling the returned future cancels all calls.
+     *
+     * @param requests The equivalent requests, the preferred mirror first.
+     * @return The first successful response, which has to be closed by the caller.
+     */
+    public CompletableFuture<Response> execute(List<Request> requests) {
+        HedgedCall hedgedCall = new HedgedCall(requests);
+        hedgedCall.startNext();
+        return hedgedCall.result;
+    }
+
+    private long getHedgeDelayMillis() {
+        if (latencies.getSampleCount() < MIN_SAMPLES) {
+            return DEFAULT_HEDGE_DELAY_MILLIS;
+        }
+        return Math.max(MIN_HEDGE_DELAY_MILLIS, Math.min(latencies.getPercentile(95), MAX_HEDGE_DELAY_MILLIS));
+    }
+
+    private class HedgedCall implements Callback {
+        private final List<Request> requests;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+        private final long startNanos = System.nanoTime();
+
+        // guarded by this
+        private int nextRequest;
+        private int runningCalls;
+        private IOException failure;
+
+        private HedgedCall(List<Request> requests) {
+            this.requests = requests;
+            result.whenComplete((response, throwable) -> {
+                if (throwable instanceof CancellationException) {
+                    calls.forEach(Call::cancel);
+                }
+            });
+        }
+
+        private void startNext() {
+            Call call;
+            boolean moreRequests;
+            synchronized (this) {
+                if (result.isDone() || (nextRequest == requests.size())) {
+                    return;
+                }
+                if (nextRequest > 0) {
+                    hedgedRequests.increment();
+                }
+                call = client.newCall(requests.get(nextRequest++));
+                calls.add(call);
+                runningCalls++;
+                moreRequests = nextRequest < requests.size();
+            }
+            call.enqueue(this);
+            if (moreRequests) {
+                api.getThreadPool().getDaemonScheduler()
+                        .schedule(this::startNext, getHedgeDelayMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+            if (!response.isSuccessful()) {
+                response.close();
+                onFailure(call, new IOException(String.format(
+                        "Error while requesting %s: HTTP %d", call.request().url(), response.code())));
+                return;
+            }
+            if (!result.complete(response)) {
+                // another mirror was faster
+                response.close();
+                return;
+            }
+            latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            if (call != calls.get(0)) {
+                hedgeWins.increment();
+            }
+            calls.stream().filter(otherCall -> otherCall != call).forEach(Call::cancel);
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            IOException exhaustedFailure = null;
+            synchronized (this) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                runningCalls--;
+                if ((runningCalls == 0) && (nextRequest == requests.size())) {
+                    exhaustedFailure = failure;
+                }
+            }
+            if (exhaustedFailure != null) {
+                result.completeExceptionally(exhaustedFailure);
+            } else {
+                // fall back to the next mirror right away
+                startNext();
+            }
+        }
+    }
+}
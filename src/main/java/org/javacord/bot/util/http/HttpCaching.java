@@ -0,0 +1,33 @@
+package org.javacord.bot.util.http;
+
+import okhttp3.CacheControl;
+import okhttp3.Response;
+
+import java.net.HttpURLConnection;
+
+/**
+ * Helpers for fetches that are revalidated against the on-disk HTTP cache of the shared HTTP client.
+ */
+public final class HttpCaching {
+
+    /**
+     * The cache control of requests that always revalidate a cached response with the server, sending the cached
+     * ETag and Last-Modified date, so unchanged resources are answered with a body-less 304.
+     */
+    public static final CacheControl REVALIDATE = new CacheControl.Builder().noCache().build();
+
+    private HttpCaching() { /* nope */ }
+
+    /**
+     * Checks whether the given response was served from the cache because the resource has not been modified.
+     *
+     * @param response The response.
+     * @return Whether the resource has not been modified since it was cached.
+     */
+    public static boolean isNotModified(Response response) {
+        Response networkResponse = response.networkResponse();
+        return (response.cacheResponse() != null)
+                && ((networkResponse == null) || (networkResponse.code() == HttpURLConnection.HTTP_NOT_MODIFIED));
+    }
+
+}
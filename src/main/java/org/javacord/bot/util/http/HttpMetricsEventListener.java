@@ -0,0 +1,149 @@
+package org.javacord.bot.util.http;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.javacord.bot.util.MetricsRegistry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An OkHttp event listener that records the phases of every call per host.
+ *
+ * <p>For every host, the amount of calls and failures, the accumulated milliseconds spent for DNS lookups,
+ * connecting, waiting for the first byte of the response and reading the response body, and the amount of received
+ * body bytes are registered as metrics named {@code http.<host>.<metric>}. Dividing a time by the amount of calls
+ * gives its average.
+ *
+ * <p>One listener instance is created per call, so the start times need no synchronization.
+ */
+public class HttpMetricsEventListener extends EventListener {
+
+    private final HostMetrics hostMetrics;
+
+    private long dnsStartNanos;
+    private long connectStartNanos;
+    private long requestStartNanos;
+    private long bodyStartNanos;
+
+    private HttpMetricsEventListener(HostMetrics hostMetrics) {
+        this.hostMetrics = hostMetrics;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        hostMetrics.calls.increment();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        hostMetrics.dnsNanos.add(System.nanoTime() - dnsStartNanos);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        hostMetrics.connectNanos.add(System.nanoTime() - connectStartNanos);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                              IOException ioe) {
+        hostMetrics.connectNanos.add(System.nanoTime() - connectStartNanos);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        hostMetrics.timeToFirstByteNanos.add(System.nanoTime() - requestStartNanos);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        bodyStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        hostMetrics.bodyReadNanos.add(System.nanoTime() - bodyStartNanos);
+        hostMetrics.bodyBytes.add(byteCount);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        hostMetrics.failures.increment();
+    }
+
+    /**
+     * A factory for listeners that share the per-host metrics.
+     */
+    public static class Factory implements EventListener.Factory {
+        private final MetricsRegistry metrics;
+        private final Map<String, HostMetrics> hostMetrics = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new factory.
+         *
+         * @param metrics The registry to register the per-host metrics with.
+         */
+        public Factory(MetricsRegistry metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public EventListener create(Call call) {
+            String host = call.request().url().host();
+            return new HttpMetricsEventListener(hostMetrics.computeIfAbsent(host, this::registerHostMetrics));
+        }
+
+        private HostMetrics registerHostMetrics(String host) {
+            HostMetrics result = new HostMetrics();
+            String prefix = "http." + host + '.';
+            metrics.register(prefix + "calls", result.calls::sum);
+            metrics.register(prefix + "failures", result.failures::sum);
+            metrics.register(prefix + "dnsMillis", () -> toMillis(result.dnsNanos));
+            metrics.register(prefix + "connectMillis", () -> toMillis(result.connectNanos));
+            metrics.register(prefix + "timeToFirstByteMillis", () -> toMillis(result.timeToFirstByteNanos));
+            metrics.register(prefix + "bodyReadMillis", () -> toMillis(result.bodyReadNanos));
+            metrics.register(prefix + "bodyBytes", result.bodyBytes::sum);
+            return result;
+        }
+
+        private static long toMillis(LongAdder nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+        }
+    }
+
+    private static class HostMetrics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dnsNanos = new LongAdder();
+        private final LongAdder connectNanos = new LongAdder();
+        private final LongAdder timeToFirstByteNanos = new LongAdder();
+        private final LongAdder bodyReadNanos = new LongAdder();
+        private final LongAdder bodyBytes = new LongAdder();
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.javacord.bot.util.http;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latency samples in a ring buffer to estimate percentiles.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int nextSample;
+    private int sampleCount;
+
+    /**
+     * Creates a new latency tracker.
+     *
+     * @param capacity The amount of most recent samples that are kept.
+     */
+    public LatencyTracker(int capacity) {
+        samples = new long[capacity];
+    }
+
+    /**
+     * Records a latency sample.
+     *
+     * @param millis The latency in milliseconds.
+     */
+    public synchronized void record(long millis) {
+        samples[nextSample] = millis;
+        nextSample = (nextSample + 1) % samples.length;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+    }
+
+    /**
+     * Gets the amount of samples that are kept.
+     *
+     * @return The amount of samples that are kept.
+     */
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Estimates a percentile of the kept samples.
+     *
+     * @param percentile The percentile between 0 and 100.
+     * @return The latency in milliseconds below which the given percentage of the samples is, or {@code -1} if there
+     *         are no samples.
+     */
+    public long getPercentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (sampleCount == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+}
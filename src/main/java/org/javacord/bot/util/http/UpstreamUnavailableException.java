@@ -0,0 +1,18 @@
+package org.javacord.bot.util.http;
+
+/**
+ * An exception that is thrown if a call to an upstream is rejected without trying it, because its circuit breaker is
+ * open or its bulkhead is full.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    /**
+     * Creates a new upstream unavailable exception.
+     *
+     * @param message The detail message.
+     */
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,329 @@
+package org.javacord.bot.util.javadoc;
+
+import org.javacord.bot.util.javadoc.parser.JavadocClass;
+import org.javacord.bot.util.javadoc.parser.JavadocMethod;
+import org.javacord.bot.util.search.CamelHumps;
+import org.javacord.bot.util.search.PrefixIndex;
+import org.javacord.bot.util.search.TopK;
+import org.javacord.bot.util.search.TrigramIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents one loaded generation of the javadoc search indices of a Javacord artifact in a specific version.
+ *
+ * <p>Instances are immutable and can be shared between concurrent queries.
+ */
+public class JavadocIndex {
+
+    private static final int NO_MATCH = Integer.MIN_VALUE;
+    private static final int EXACT_MATCH = 1000;
+    private static final int PREFIX_MATCH = 700;
+    private static final int HUMP_SUBSTRING_MATCH = 500;
+    private static final int LEADING_ABBREVIATION_MATCH = 450;
+    private static final int SUBSTRING_MATCH = 350;
+    private static final int ABBREVIATION_MATCH = 300;
+    private static final int QUALIFIED_NAME_MATCH = 100;
+    private static final int API_ARTIFACT_BONUS = 50;
+
+    private static final int HUMP_BUCKET_COUNT = 27;
+
+    private final String type;
+    private final String version;
+    private final List<JavadocMethod> methods;
+    private final List<JavadocClass> classes;
+    private final TrigramIndex methodNameIndex;
+    /**
+     * The offset of the method name in the search key of every method.
+     */
+    private final int[] methodNameStarts;
+    private final TrigramIndex classNameIndex;
+    private final int[][] methodHumpBuckets;
+    private final int[][] classHumpBuckets;
+    private final int artifactBonus;
+    private final PrefixIndex methodCompletions;
+    private final PrefixIndex classCompletions;
+
+    /**
+     * Creates a new javadoc index.
+     *
+     * @param type    The artifact type, usually "core" or "api".
+     * @param version The Javacord version the index was loaded for.
+     * @param methods All methods of the artifact.
+     * @param classes All classes of the artifact.
+     */
+    public JavadocIndex(String type, String version,
+                        Collection<JavadocMethod> methods, Collection<JavadocClass> classes) {
+        this.type = type;
+        this.version = version;
+        this.methods = List.copyOf(methods);
+        this.classes = List.copyOf(classes);
+        methodNameIndex = new TrigramIndex(this.methods
+                .stream()
+                .map(JavadocMethod::getSearchKey)
+                .collect(Collectors.toList()));
+        methodNameStarts = new int[this.methods.size()];
+        for (int id = 0; id < methodNameStarts.length; id++) {
+            // folding can change the length of non-ASCII names
+            methodNameStarts[id] = methodNameIndex.getKey(id).length()
+                    - TrigramIndex.fold(this.methods.get(id).getName()).length();
+        }
+        classNameIndex = new TrigramIndex(this.classes
+                .stream()
+                .map(JavadocClass::getName)
+                .collect(Collectors.toList()));
+        methodHumpBuckets = buildHumpBuckets(this.methods
+                .stream()
+                .map(JavadocMethod::getName)
+                .collect(Collectors.toList()));
+        classHumpBuckets = buildHumpBuckets(this.classes
+                .stream()
+                .map(JavadocClass::getName)
+                .collect(Collectors.toList()));
+        artifactBonus = "api".equals(type) ? API_ARTIFACT_BONUS : 0;
+
+        PrefixIndex.Builder methodCompletionsBuilder = new PrefixIndex.Builder();
+        for (JavadocMethod method : this.methods) {
+            String name = method.getName();
+            int parenthesis = name.indexOf('(');
+            String simpleName = (parenthesis < 0) ? name : name.substring(0, parenthesis);
+            methodCompletionsBuilder
+                    .add(simpleName)
+                    .add(method.getClassName() + "#" + simpleName);
+        }
+        methodCompletions = methodCompletionsBuilder.build();
+        PrefixIndex.Builder classCompletionsBuilder = new PrefixIndex.Builder();
+        for (JavadocClass clazz : this.classes) {
+            classCompletionsBuilder.add(clazz.getName());
+        }
+        classCompletions = classCompletionsBuilder.build();
+    }
+
+    /**
+     * Gets the artifact type of the index.
+     *
+     * @return The artifact type of the index.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the Javacord version the index was loaded for.
+     *
+     * @return The Javacord version the index was loaded for.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets all methods of the artifact.
+     *
+     * @return All methods of the artifact.
+     */
+    public List<JavadocMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Gets all classes of the artifact.
+     *
+     * @return All classes of the artifact.
+     */
+    public List<JavadocClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Gets the autocomplete suggestions for method search terms.
+     *
+     * <p>The suggestions are the simple method names and the method names qualified with their class name.
+     *
+     * @return The autocomplete suggestions for method search terms.
+     */
+    public PrefixIndex getMethodCompletions() {
+        return methodCompletions;
+    }
+
+    /**
+     * Gets the autocomplete suggestions for class search terms.
+     *
+     * @return The autocomplete suggestions for class search terms.
+     */
+    public PrefixIndex getClassCompletions() {
+        return classCompletions;
+    }
+
+    /**
+     * Scores all methods that match the given search term and offers them to the given top-k selection.
+     *
+     * <p>Methods match if their full name contains the search term or if the search term is a camel case abbreviation
+     * of their name, like "gMBI" for "getMessageById". Exact and prefix matches of the name score best, matches
+     * in the api artifact score better than matches in the core artifact, and shorter names score better than
+     * longer ones.
+     *
+     * @param searchTerm      The search term.
+     * @param includeInternal Whether to include methods of internal packages.
+     * @param topMethods      The top-k selection to offer the matching methods to.
+     */
+    public void searchMethods(String searchTerm, boolean includeInternal, TopK<JavadocMethod> topMethods) {
+        String foldedSearchTerm = TrigramIndex.fold(searchTerm);
+        for (int id : methodNameIndex.search(searchTerm)) {
+            offerMethod(id, searchTerm, foldedSearchTerm, includeInternal, topMethods);
+        }
+        if (isAbbreviation(searchTerm)) {
+            for (int id : methodHumpBuckets[humpBucketOf(searchTerm.charAt(0))]) {
+                // substring matches have already been offered
+                if (!methodNameIndex.getKey(id).contains(foldedSearchTerm)) {
+                    offerMethod(id, searchTerm, foldedSearchTerm, includeInternal, topMethods);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scores all classes that match the given search term and offers them to the given top-k selection.
+     *
+     * <p>Classes match if their name contains the search term or if the search term is a camel case abbreviation
+     * of their name. The ranking works like for {@link #searchMethods(String, boolean, TopK)}.
+     *
+     * @param searchTerm      The search term.
+     * @param includeInternal Whether to include classes of internal packages.
+     * @param topClasses      The top-k selection to offer the matching classes to.
+     */
+    public void searchClasses(String searchTerm, boolean includeInternal, TopK<JavadocClass> topClasses) {
+        String foldedSearchTerm = TrigramIndex.fold(searchTerm);
+        for (int id : classNameIndex.search(searchTerm)) {
+            offerClass(id, searchTerm, foldedSearchTerm, includeInternal, topClasses);
+        }
+        if (isAbbreviation(searchTerm)) {
+            for (int id : classHumpBuckets[humpBucketOf(searchTerm.charAt(0))]) {
+                // substring matches have already been offered
+                if (!classNameIndex.getKey(id).contains(foldedSearchTerm)) {
+                    offerClass(id, searchTerm, foldedSearchTerm, includeInternal, topClasses);
+                }
+            }
+        }
+    }
+
+    private void offerMethod(int id, String searchTerm, String foldedSearchTerm,
+                             boolean includeInternal, TopK<JavadocMethod> topMethods) {
+        JavadocMethod method = methods.get(id);
+        if (!includeInternal && method.isInternal()) {
+            return;
+        }
+        String searchKey = methodNameIndex.getKey(id);
+        String name = method.getName();
+        int nameStart = methodNameStarts[id];
+        int parenthesis = name.indexOf('(');
+        int simpleNameLength = (parenthesis < 0) ? name.length() : parenthesis;
+
+        int score = scoreName(name, simpleNameLength, searchKey.indexOf(foldedSearchTerm, nameStart) - nameStart,
+                searchTerm, foldedSearchTerm);
+        if (score == NO_MATCH) {
+            if (!searchKey.contains(foldedSearchTerm)) {
+                return;
+            }
+            score = QUALIFIED_NAME_MATCH - simpleNameLength;
+        }
+        topMethods.offer(method, score + artifactBonus);
+    }
+
+    private void offerClass(int id, String searchTerm, String foldedSearchTerm,
+                            boolean includeInternal, TopK<JavadocClass> topClasses) {
+        JavadocClass clazz = classes.get(id);
+        if (!includeInternal && clazz.isInternal()) {
+            return;
+        }
+        String name = clazz.getName();
+        int score = scoreName(name, name.length(), classNameIndex.getKey(id).indexOf(foldedSearchTerm),
+                searchTerm, foldedSearchTerm);
+        if (score != NO_MATCH) {
+            topClasses.offer(clazz, score + artifactBonus);
+        }
+    }
+
+    /**
+     * Scores how well a search term matches a name.
+     *
+     * @param name             The name.
+     * @param simpleNameLength The length of the name without parameters.
+     * @param position         The position of the search term in the case-folded name, or a negative value.
+     * @param searchTerm       The search term.
+     * @param foldedSearchTerm The case-folded search term.
+     * @return The score or {@link #NO_MATCH} if the search term does not match the name.
+     */
+    private static int scoreName(String name, int simpleNameLength, int position,
+                                 String searchTerm, String foldedSearchTerm) {
+        int score;
+        if (position == 0) {
+            score = (foldedSearchTerm.length() == simpleNameLength) ? EXACT_MATCH : PREFIX_MATCH;
+        } else if ((position > 0) && (position < simpleNameLength)) {
+            score = CamelHumps.isHumpStart(name, position) ? HUMP_SUBSTRING_MATCH : SUBSTRING_MATCH;
+        } else if (isAbbreviation(searchTerm)) {
+            int hump = CamelHumps.match(searchTerm, name.substring(0, simpleNameLength));
+            if (hump == CamelHumps.NO_MATCH) {
+                return NO_MATCH;
+            }
+            score = (hump == 0) ? LEADING_ABBREVIATION_MATCH : ABBREVIATION_MATCH;
+        } else {
+            return NO_MATCH;
+        }
+        return score - simpleNameLength;
+    }
+
+    private static boolean isAbbreviation(String searchTerm) {
+        if (searchTerm.length() < 2) {
+            return false;
+        }
+        for (int i = 0; i < searchTerm.length(); i++) {
+            if (!Character.isLetterOrDigit(searchTerm.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds buckets of the ids of all names that contain a hump starting with a specific character.
+     *
+     * @param names The names, the id of a name is its position in the list.
+     * @return The ids of the names, bucketed by {@link #humpBucketOf(char)}.
+     */
+    private static int[][] buildHumpBuckets(List<String> names) {
+        List<List<Integer>> buckets = new ArrayList<>(HUMP_BUCKET_COUNT);
+        for (int i = 0; i < HUMP_BUCKET_COUNT; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        boolean[] added = new boolean[HUMP_BUCKET_COUNT];
+        for (int id = 0; id < names.size(); id++) {
+            String name = names.get(id);
+            int parenthesis = name.indexOf('(');
+            int simpleNameLength = (parenthesis < 0) ? name.length() : parenthesis;
+            Arrays.fill(added, false);
+            for (int i = 0; i < simpleNameLength; i++) {
+                int bucket = humpBucketOf(name.charAt(i));
+                if (!added[bucket] && CamelHumps.isHumpStart(name, i)) {
+                    added[bucket] = true;
+                    buckets.get(bucket).add(id);
+                }
+            }
+        }
+        int[][] result = new int[HUMP_BUCKET_COUNT][];
+        for (int i = 0; i < HUMP_BUCKET_COUNT; i++) {
+            result[i] = buckets.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private static int humpBucketOf(char character) {
+        char lowerCase = Character.toLowerCase(character);
+        return ((lowerCase >= 'a') && (lowerCase <= 'z')) ? (lowerCase - 'a') : (HUMP_BUCKET_COUNT - 1);
+    }
+
+}
@@ -0,0 +1,227 @@
+package org.javacord.bot.util.javadoc;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.bot.util.BotExecutor;
+import org.javacord.bot.util.Deadline;
+import org.javacord.bot.util.LatestVersionChangedEvent;
+import org.javacord.bot.util.LatestVersionFinder;
+import org.javacord.bot.util.MetricsRegistry;
+import org.javacord.bot.util.SingleFlight;
+import org.javacord.bot.util.http.CircuitBreakerRegistry;
+import org.javacord.bot.util.http.HedgedRequester;
+import org.javacord.bot.util.http.UpstreamUnavailableException;
+import org.javacord.bot.util.javadoc.parser.JavadocParser;
+import org.javacord.bot.util.snapshot.SnapshotStore;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the javadoc search indices of the Javacord artifacts in memory.
+ *
+ * <p>An index is loaded once per artifact type and Javacord version. If the latest version changes, the new
+ * generation is loaded in the background while queries are still answered from the previous generation, which is
+ * then atomically replaced.
+ *
+ * <p>On startup the indices of the last persisted snapshot are served right away. When a new Javacord version is
+ * released, the loaded indices are reloaded for it in the background. While the javadocs are unavailable, the
+ * last loaded generation is served.
+ */
+@ApplicationScoped
+public class JavadocIndexService {
+    @Inject
+    Logger logger;
+
+    @Inject
+    BotExecutor executor;
+
+    @Inject
+    HedgedRequester requester;
+
+    @Inject
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Inject
+    LatestVersionFinder versionFinder;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    /**
+     * The current index generation per artifact type.
+     */
+    private final Map<String, JavadocIndex> currentIndices = new ConcurrentHashMap<>();
+
+    /**
+     * The loads that are currently in progress, keyed by artifact type and version.
+     */
+    private final SingleFlight<String, JavadocIndex> pendingLoads = new SingleFlight<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        metrics.register("javadocLoads", pendingLoads);
+    }
+
+    void preloadIndices(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        Map<String, JavadocIndex> snapshotIndices = snapshotStore.getJavadocIndices();
+        snapshotIndices.forEach((type, index) -> {
+            currentIndices.put(type, index);
+            logger.info("Javadoc index for javacord-{} {} available {} ms after startup from snapshot",
+                    type, index.getVersion(), ManagementFactory.getRuntimeMXBean().getUptime());
+        });
+        // serve the snapshot right away instead of waiting for Maven Central
+        Optional
+                .ofNullable(snapshotIndices.get("api"))
+                .or(() -> snapshotIndices.values().stream().findAny())
+                .ifPresent(index -> versionFinder.seedVersion(index.getVersion()));
+        getIndex("api").whenComplete((__, throwable) -> {
+            if (throwable != null) {
+                logger
+                        .atError()
+                        .withThrowable(throwable)
+                        .log("Exception while preloading the javadoc index");
+            }
+        });
+    }
+
+    void reloadIndices(@Observes LatestVersionChangedEvent event) {
+        currentIndices.keySet().forEach(type -> getIndex(type, event.getLatestVersion()));
+    }
+
+    /**
+     * Gets the index of the given artifact type for the latest Javacord version.
+     *
+     * <p>If an older generation is available while the latest version is still being loaded,
+     * the older generation is returned immediately.
+     *
+     * @param type The artifact type, usually "core" or "api".
+     * @return The index of the given artifact type.
+     */
+    public CompletableFuture<JavadocIndex> getIndex(String type) {
+        return versionFinder
+                .findLatestVersion()
+                .thenCompose(latestVersion -> getIndex(type, latestVersion));
+    }
+
+    /**
+     * Gets the indices of the given artifact types for the latest Javacord version.
+     *
+     * <p>The latest version is only requested once for all artifact types. If the deadline passes while the indices
+     * are still being loaded, loads that nobody else waits for are cancelled.
+     *
+     * @param deadline The deadline of the command that needs the indices.
+     * @param types    The artifact types, usually "core" or "api".
+     * @return The indices of the given artifact types in the given order.
+     */
+    public CompletableFuture<List<JavadocIndex>> getIndices(Deadline deadline, String... types) {
+        return deadline
+                .bound(versionFinder.findLatestVersion())
+                .thenCompose(latestVersion -> {
+                    List<CompletableFuture<JavadocIndex>> indices = Arrays
+                            .stream(types)
+                            .map(type -> deadline.bound(getIndex(type, latestVersion)))
+                            .collect(Collectors.toList());
+                    return CompletableFuture
+                            .allOf(indices.toArray(new CompletableFuture[0]))
+                            .thenApply(__ -> indices
+                                    .stream()
+                                    .map(CompletableFuture::join)
+                                    .collect(Collectors.toList()));
+                });
+    }
+
+    /**
+     * Gets the index of the given artifact type for the given Javacord version.
+     *
+     * <p>If an older generation is available while the given version is still being loaded,
+     * the older generation is returned immediately. If the version is unknown, only an older generation is returned.
+     *
+     * @param type    The artifact type, usually "core" or "api".
+     * @param version The Javacord version, empty if it is unknown.
+     * @return The index of the given artifact type.
+     */
+    public CompletableFuture<JavadocIndex> getIndex(String type, String version) {
+        JavadocIndex current = currentIndices.get(type);
+        if ((current != null) && current.getVersion().equals(version)) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (version.isEmpty()) {
+            return (current == null)
+                    ? CompletableFuture.failedFuture(
+                            new UpstreamUnavailableException("The latest Javacord version is unknown"))
+                    : CompletableFuture.completedFuture(current);
+        }
+
+        CompletableFuture<JavadocIndex> load = loadIndex(type, version);
+        return (current == null) ? load : CompletableFuture.completedFuture(current);
+    }
+
+    /**
+     * Gets the index of the given artifact type that is currently in memory, without checking for a newer version.
+     *
+     * @param type The artifact type, usually "core" or "api".
+     * @return The current index of the given artifact type if one is loaded.
+     */
+    public Optional<JavadocIndex> getCurrentIndex(String type) {
+        return Optional.ofNullable(currentIndices.get(type));
+    }
+
+    private CompletableFuture<JavadocIndex> loadIndex(String type, String version) {
+        return pendingLoads.execute(type + ':' + version, () -> {
+            logger.info("Loading javadoc index for javacord-{} {}", type, version);
+            JavadocParser parser = new JavadocParser(executor, requester, type, version);
+            CompletableFuture<JavadocIndex> load = circuitBreakers
+                    .get(CircuitBreakerRegistry.JAVADOC)
+                    .execute(() -> parser
+                            .getMethods()
+                            .thenCombine(parser.getClasses(),
+                                    (methods, classes) -> new JavadocIndex(type, version, methods, classes)))
+                    .whenComplete((index, throwable) -> {
+                        if (ExceptionLogger.unwrapThrowable(throwable) instanceof UpstreamUnavailableException) {
+                            logger.debug("Skipped loading javadoc index for javacord-{} {}: {}",
+                                    type, version, throwable.getMessage());
+                            return;
+                        }
+                        if (ExceptionLogger.unwrapThrowable(throwable) instanceof CancellationException) {
+                            logger.debug("Cancelled loading javadoc index for javacord-{} {}, nobody waits for it",
+                                    type, version);
+                            return;
+                        }
+                        if (throwable != null) {
+                            logger
+                                    .atError()
+                                    .withThrowable(throwable)
+                                    .log("Exception while loading javadoc index for javacord-{} {}", type, version);
+                            return;
+                        }
+                        if (currentIndices.put(type, index) == null) {
+                            logger.info("Javadoc index for javacord-{} {} available {} ms after startup from network",
+                                    type, version, ManagementFactory.getRuntimeMXBean().getUptime());
+                        }
+                        snapshotStore.updateJavadocIndex(index);
+                    });
+            load.whenComplete((__, throwable) -> {
+                if (throwable instanceof CancellationException) {
+                    parser.cancel();
+                }
+            });
+            return load;
+        });
+    }
+}
@@ -1,26 +1,42 @@
 package org.javacord.bot.util.javadoc.parser;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
 /**
  * Represents a javadoc class.
+ *
+ * <p>The url and package name are expected to be canonical instances, the url is shared with the methods of the
+ * class.
  */
 public class JavadocClass {
 
-    private final String baseUrl;
+    private final String url;
     private final String name;
     private final String packageName;
+    private final boolean internal;
 
     /**
      * Creates a new javadoc class.
      *
-     * @param baseUrl The base url of the javadocs.
-     * @param node    The node with the information about the class.
+     * @param url         The url of the class page, see {@link #getUrl}.
+     * @param name        The name of the class.
+     * @param packageName The name of the class' package.
+     */
+    public JavadocClass(String url, String name, String packageName) {
+        this.url = url;
+        this.name = name;
+        this.packageName = packageName;
+        internal = packageName.endsWith(".internal") || packageName.contains(".internal.");
+    }
+
+    /**
+     * Builds the url of a class page.
+     *
+     * @param baseUrl     The base url of the javadocs.
+     * @param packageName The name of the class' package.
+     * @param name        The name of the class.
+     * @return The url of the class page.
      */
-    public JavadocClass(String baseUrl, JsonNode node) {
-        this.baseUrl = baseUrl;
-        name = node.get("l").asText();
-        packageName = node.get("p").asText();
+    public static String getUrl(String baseUrl, String packageName, String name) {
+        return baseUrl + packageName.replace('.', '/') + "/" + name + ".html";
     }
 
     /**
@@ -41,13 +57,31 @@ public class JavadocClass {
         return packageName;
     }
 
+    /**
+     * Checks whether the class' package is an internal package.
+     *
+     * @return Whether the class' package is an internal package.
+     */
+    public boolean isInternal() {
+        return internal;
+    }
+
     /**
      * Gets the full url of the class.
      *
      * @return The full url of the class.
      */
     public String getFullUrl() {
-        return baseUrl + packageName.replace(".", "/") + "/" + name + ".html";
+        return url;
+    }
+
+    /**
+     * Gets a markdown-formatted link to the class.
+     *
+     * @return The markdown for a link to the class.
+     */
+    public String getMarkdownLink() {
+        return "[" + name + "](" + getFullUrl() + ")";
     }
 
 }
@@ -1,30 +1,57 @@
 package org.javacord.bot.util.javadoc.parser;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Locale;
 
 /**
  * Represents a javadoc method.
+ *
+ * <p>The class url, package and class names are expected to be canonical instances shared by all methods of a class,
+ * so a method only holds references to them. The anchor is only kept if it cannot be derived from the name, and
+ * links are built from the class url and the anchor when they are rendered. The shortened name is computed once on
+ * creation, so sorting results does not run regular expressions, and it is the name itself unless the name is too
+ * long.
  */
 public class JavadocMethod {
 
-    private final String baseUrl;
+    private final String classUrl;
     private final String name;
     private final String className;
     private final String packageName;
-    private final String url;
+    private final String anchor;
+    private final String shortenedName;
+    private final boolean internal;
 
     /**
      * Creates a new javadoc method.
      *
-     * @param baseUrl The base url of the javadocs.
-     * @param node    The node with the information about the method.
+     * @param classUrl    The url of the method's class page, see {@link JavadocClass#getUrl}.
+     * @param name        The name of the method.
+     * @param className   The name of the method's class.
+     * @param packageName The name of the method's package.
+     * @param url         The anchor of the method inside the class page, or {@code null} to derive it from the name.
      */
-    public JavadocMethod(String baseUrl, JsonNode node) {
-        this.baseUrl = baseUrl;
-        name = node.get("l").asText();
-        className = node.get("c").asText();
-        packageName = node.get("p").asText();
-        url = node.has("url") ? node.get("url").asText() : name.replace("(", "-").replace(")", "-");
+    public JavadocMethod(String classUrl, String name, String className, String packageName, String url) {
+        this.classUrl = classUrl;
+        this.name = name;
+        this.className = className;
+        this.packageName = packageName;
+
+        String shortenedName = name;
+        if (shortenedName.length() > 40) {
+            shortenedName = shortenedName.replaceAll("\\(.+\\)", "(...)");
+        }
+        if (shortenedName.length() > 45) {
+            shortenedName = shortenedName.substring(0, 42) + "...";
+        }
+        this.shortenedName = shortenedName;
+
+        if ((url == null) || url.equals(deriveAnchor(name))) {
+            anchor = null;
+        } else {
+            // newer javadocs use the name as anchor, share its instance then
+            anchor = url.equals(name) ? name : url;
+        }
+        internal = packageName.endsWith(".internal") || packageName.contains(".internal.");
     }
 
     /**
@@ -45,20 +72,24 @@ public class JavadocMethod {
         return getPackageName() + "." + getClassName() + "#" + getName();
     }
 
+    /**
+     * Gets the case-folded full name of the method, which is used for searching.
+     *
+     * <p>The search key is computed on every call, the index keeps it once for the search.
+     *
+     * @return The case-folded full name of the method.
+     */
+    public String getSearchKey() {
+        return getFullName().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Gets a shorter version of the name.
      *
      * @return A shorter version of the name.
      */
     public String getShortenedName() {
-        String name = getName();
-        if (name.length() > 40) {
-            name = name.replaceAll("\\(.+\\)", "(...)");
-        }
-        if (name.length() > 45) {
-            name = name.substring(0, 42) + "...";
-        }
-        return name;
+        return shortenedName;
     }
 
     /**
@@ -79,13 +110,44 @@ public class JavadocMethod {
         return packageName;
     }
 
+    /**
+     * Checks whether the method's package is an internal package.
+     *
+     * @return Whether the method's package is an internal package.
+     */
+    public boolean isInternal() {
+        return internal;
+    }
+
+    /**
+     * Gets the anchor of the method inside the class page.
+     *
+     * @return The anchor of the method.
+     */
+    public String getAnchor() {
+        return (anchor != null) ? anchor : deriveAnchor(name);
+    }
+
     /**
      * Gets the full url of the method.
      *
      * @return The full url of the method.
      */
     public String getFullUrl() {
-        return baseUrl + packageName.replace(".", "/") + "/" + className + ".html#" + url;
+        return classUrl + "#" + getAnchor();
+    }
+
+    /**
+     * Gets a markdown-formatted link to the method, using the shortened name as text.
+     *
+     * @return The markdown for a link to the method.
+     */
+    public String getMarkdownLink() {
+        return "[" + shortenedName + "](" + getFullUrl() + ")";
+    }
+
+    private static String deriveAnchor(String name) {
+        return name.replace("(", "-").replace(")", "-");
     }
 
 }
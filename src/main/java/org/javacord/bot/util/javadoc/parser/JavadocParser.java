@@ -1,43 +1,89 @@
 package org.javacord.bot.util.javadoc.parser;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
-import org.javacord.api.DiscordApi;
+import org.javacord.bot.util.StringPool;
+import org.javacord.bot.util.http.HedgedRequester;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Parses JavaDocs of a given url.
  */
 public class JavadocParser {
+    /**
+     * The system property to configure the mirrors of the javadoc search index files.
+     */
+    public static final String MIRRORS_PROPERTY = "javacord.bot.javadocMirrors";
+
+    private static final String DEFAULT_MIRRORS = "https://javadoc.io/static/org.javacord/javacord-{type}/{version}/,"
+            + "https://docs.javacord.org/{type}/v/{version}/";
 
-    private static final OkHttpClient client = new OkHttpClient();
     private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final DiscordApi api;
-    private final String staticUrl;
+    private final Executor executor;
+    private final HedgedRequester requester;
+    private final List<String> staticUrls;
 
     private final String url;
 
+    private final StringPool stringPool = new StringPool();
+
+    /**
+     * The search index requests that are in flight.
+     */
+    private final Set<CompletableFuture<Response>> pendingResponses = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cancelled;
+
     /**
      * Creates a new Javadoc parser.
      *
-     * @param api           A discord api instance.
+     * @param executor      The executor to download and parse the javadocs on.
+     * @param requester     The requester to fetch the javadocs from the configured mirrors with.
      * @param type          Usually "core" or "api".
      * @param latestVersion The latest version of Javacord.
      */
-    public JavadocParser(DiscordApi api, String type, String latestVersion) {
-        this.api = api;
-        this.staticUrl = "https://javadoc.io/static/org.javacord/javacord-" + type + "/" + latestVersion + "/";
-        this.url = "https://javadoc.io/doc/org.javacord/javacord-" + type + "/latest/";
+    public JavadocParser(Executor executor, HedgedRequester requester, String type, String latestVersion) {
+        this.executor = executor;
+        this.requester = requester;
+        this.staticUrls = Arrays
+                .stream(System.getProperty(MIRRORS_PROPERTY, DEFAULT_MIRRORS).split(","))
+                .map(String::trim)
+                .filter(mirror -> !mirror.isEmpty())
+                .map(mirror -> mirror.replace("{type}", type).replace("{version}", latestVersion))
+                .collect(Collectors.toList());
+        this.url = getDocsUrl(type);
+    }
+
+    /**
+     * Gets the base url of the javadocs that are linked for the given artifact type.
+     *
+     * @param type Usually "core" or "api".
+     * @return The base url of the javadocs.
+     */
+    public static String getDocsUrl(String type) {
+        return "https://javadoc.io/doc/org.javacord/javacord-" + type + "/latest/";
     }
 
     /**
@@ -52,7 +98,7 @@ public class JavadocParser {
             } catch (Exception e) {
                 throw new CompletionException(e);
             }
-        }, api.getThreadPool().getExecutorService());
+        }, executor);
     }
 
     /**
@@ -67,7 +113,17 @@ public class JavadocParser {
             } catch (Exception e) {
                 throw new CompletionException(e);
             }
-        }, api.getThreadPool().getExecutorService());
+        }, executor);
+    }
+
+    /**
+     * Cancels the downloads and parsing of this parser.
+     *
+     * <p>Running downloads are aborted and the futures of this parser fail with a {@link CancellationException}.
+     */
+    public void cancel() {
+        cancelled = true;
+        pendingResponses.forEach(response -> response.cancel(false));
     }
 
     /**
@@ -77,18 +133,18 @@ public class JavadocParser {
      * @throws IOException If something went wrong.
      */
     private Set<JavadocMethod> getMethodsBlocking() throws IOException {
-        Request request = new Request.Builder()
-                .url(staticUrl + "member-search-index.js")
-                .build();
-
-        Response response = client.newCall(request).execute();
-        try (ResponseBody body = response.body()) {
-            Set<JavadocMethod> methods = new HashSet<>();
-            for (JsonNode node : mapper.readTree(body.string().replaceFirst("memberSearchIndex = ", ""))) {
-                methods.add(new JavadocMethod(url, node));
+        Set<JavadocMethod> methods = new HashSet<>();
+        parseSearchIndex("member-search-index.js", entry -> {
+            if ((entry.label != null) && (entry.className != null) && (entry.packageName != null)) {
+                methods.add(new JavadocMethod(
+                        stringPool.intern(JavadocClass.getUrl(url, entry.packageName, entry.className)),
+                        stringPool.intern(entry.label),
+                        stringPool.intern(entry.className),
+                        stringPool.intern(entry.packageName),
+                        entry.url));
             }
-            return methods;
-        }
+        });
+        return methods;
     }
 
     /**
@@ -98,19 +154,141 @@ public class JavadocParser {
      * @throws IOException If something went wrong.
      */
     private Set<JavadocClass> getClassesBlocking() throws IOException {
-        Request request = new Request.Builder()
-                .url(staticUrl + "type-search-index.js")
-                .build();
-
-        Response response = client.newCall(request).execute();
-        try (ResponseBody body = response.body()) {
-            Set<JavadocClass> classes = new HashSet<>();
-            for (JsonNode node : mapper.readTree(body.string().replaceFirst("typeSearchIndex = ", ""))) {
-                if (node.has("p")) {
-                    classes.add(new JavadocClass(url, node));
+        Set<JavadocClass> classes = new HashSet<>();
+        parseSearchIndex("type-search-index.js", entry -> {
+            if ((entry.label != null) && (entry.packageName != null)) {
+                classes.add(new JavadocClass(
+                        stringPool.intern(JavadocClass.getUrl(url, entry.packageName, entry.label)),
+                        stringPool.intern(entry.label),
+                        stringPool.intern(entry.packageName)));
+            }
+        });
+        return classes;
+    }
+
+    /**
+     * Downloads a search index file from the fastest mirror and streams its entries to the given consumer.
+     *
+     * <p>The search index files are JavaScript files that assign a JSON array to a variable, like
+     * {@code memberSearchIndex = [...];updateSearchResults();}. Everything in front of the array is skipped in the
+     * byte stream and the array is read token by token, so neither the document nor a JSON tree of it is ever held
+     * in memory. The entry instance given to the consumer is reused for every element of the array.
+     *
+     * @param fileName The name of the search index file.
+     * @param consumer The consumer for the entries.
+     * @throws IOException If something went wrong.
+     */
+    private void parseSearchIndex(String fileName, Consumer<SearchIndexEntry> consumer) throws IOException {
+        List<Request> requests = staticUrls
+                .stream()
+                .map(staticUrl -> new Request.Builder()
+                        .url(staticUrl + fileName)
+                        .build())
+                .collect(Collectors.toList());
+
+        CompletableFuture<Response> pendingResponse = requester.execute(requests);
+        pendingResponses.add(pendingResponse);
+        if (cancelled) {
+            pendingResponse.cancel(false);
+        }
+        try (Response response = await(pendingResponse)) {
+            pendingResponses.remove(pendingResponse);
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new IOException(String.format("Error while requesting %s: HTTP %d", fileName, response.code()));
+            }
+
+            try (JsonParser parser = mapper.getFactory().createParser(skipToArray(body.byteStream()))) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException(String.format("Format of %s not as expected", fileName));
                 }
+                SearchIndexEntry entry = new SearchIndexEntry();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    if (cancelled) {
+                        throw new CancellationException(String.format("Parsing of %s was cancelled", fileName));
+                    }
+                    entry.clear();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String fieldName = parser.getCurrentName();
+                        parser.nextToken();
+                        switch (fieldName) {
+                            case "l":
+                                entry.label = parser.getValueAsString();
+                                break;
+
+                            case "c":
+                                entry.className = parser.getValueAsString();
+                                break;
+
+                            case "p":
+                                entry.packageName = parser.getValueAsString();
+                                break;
+
+                            case "url":
+                                entry.url = parser.getValueAsString();
+                                break;
+
+                            default:
+                                parser.skipChildren();
+                                break;
+                        }
+                    }
+                    consumer.accept(entry);
+                }
+            }
+        }
+    }
+
+    private static Response await(CompletableFuture<Response> response) throws IOException {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while requesting a search index");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
-            return classes;
+            throw new IOException("Error while requesting a search index", cause);
+        }
+    }
+
+    /**
+     * Skips the JavaScript variable assignment in front of the JSON array of a search index file.
+     *
+     * @param inputStream The stream of the search index file.
+     * @return A stream that starts with the opening bracket of the JSON array.
+     * @throws IOException If something went wrong or the stream does not contain an array.
+     */
+    private static InputStream skipToArray(InputStream inputStream) throws IOException {
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(new BufferedInputStream(inputStream));
+        int read;
+        do {
+            read = pushbackInputStream.read();
+            if (read == -1) {
+                throw new IOException("Search index does not contain an array");
+            }
+        } while (read != '[');
+        pushbackInputStream.unread(read);
+        return pushbackInputStream;
+    }
+
+    /**
+     * A mutable holder for the fields of one search index entry.
+     */
+    private static class SearchIndexEntry {
+        private String label;
+        private String className;
+        private String packageName;
+        private String url;
+
+        private void clear() {
+            label = null;
+            className = null;
+            packageName = null;
+            url = null;
         }
     }
 
@@ -0,0 +1,248 @@
+package org.javacord.bot.util.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An inverted index over documents with several text fields that ranks matches with BM25.
+ *
+ * <p>Every field has its own postings and length normalization, and the per-field scores of a term are combined with
+ * weights that are given per query. A field with weight zero is not searched at all. A document matches if every
+ * query token occurs in one of the searched fields, and the last query token also matches as prefix, so results are
+ * already found while the last word is still being typed.
+ *
+ * <p>Instances are immutable and can be shared between concurrent queries.
+ */
+public class Bm25Index {
+
+    /**
+     * The term frequency saturation.
+     */
+    private static final float K1 = 1.2f;
+
+    /**
+     * The strength of the document length normalization.
+     */
+    private static final float B = 0.75f;
+
+    /**
+     * The maximum amount of terms the last query token is expanded to.
+     */
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    /**
+     * The factor for the score of a term that only matches the last query token by prefix.
+     */
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+
+    private final int documentCount;
+    private final int fieldCount;
+
+    /**
+     * The sorted distinct terms of all documents.
+     */
+    private final String[] terms;
+
+    /**
+     * The inverse document frequency per term.
+     */
+    private final float[] idfs;
+
+    /**
+     * The ascending ids of the documents that contain a term, per term and field.
+     */
+    private final int[][][] postingDocuments;
+
+    /**
+     * The frequencies of a term in the documents of the postings, per term and field.
+     */
+    private final int[][][] postingFrequencies;
+
+    /**
+     * The length normalization factor {@code K1 * (1 - B + B * length / averageLength)} per field and document.
+     */
+    private final float[][] lengthNorms;
+
+    /**
+     * Creates a new BM25 index.
+     *
+     * @param documents The documents, each one an array with the text of every field. All documents must have the
+     *                  same amount of fields.
+     */
+    public Bm25Index(List<String[]> documents) {
+        documentCount = documents.size();
+        fieldCount = documents.isEmpty() ? 0 : documents.get(0).length;
+
+        // term -> field -> document -> frequency, documents are added in ascending order
+        Map<String, List<Map<Integer, Integer>>> postings = new TreeMap<>();
+        int[][] lengths = new int[fieldCount][documentCount];
+        for (int document = 0; document < documentCount; document++) {
+            String[] fields = documents.get(document);
+            for (int field = 0; field < fieldCount; field++) {
+                List<String> tokens = tokenize(fields[field]);
+                lengths[field][document] = tokens.size();
+                for (String token : tokens) {
+                    List<Map<Integer, Integer>> fieldPostings = postings.computeIfAbsent(token, __ -> {
+                        List<Map<Integer, Integer>> list = new ArrayList<>(fieldCount);
+                        for (int i = 0; i < fieldCount; i++) {
+                            list.add(new TreeMap<>());
+                        }
+                        return list;
+                    });
+                    fieldPostings.get(field).merge(document, 1, Integer::sum);
+                }
+            }
+        }
+
+        lengthNorms = new float[fieldCount][documentCount];
+        for (int field = 0; field < fieldCount; field++) {
+            float averageLength = Math.max(1f, (float) Arrays.stream(lengths[field]).average().orElse(0));
+            for (int document = 0; document < documentCount; document++) {
+                lengthNorms[field][document] = K1 * (1 - B + B * lengths[field][document] / averageLength);
+            }
+        }
+
+        terms = postings.keySet().toArray(new String[0]);
+        idfs = new float[terms.length];
+        postingDocuments = new int[terms.length][fieldCount][];
+        postingFrequencies = new int[terms.length][fieldCount][];
+        for (int term = 0; term < terms.length; term++) {
+            List<Map<Integer, Integer>> fieldPostings = postings.get(terms[term]);
+            boolean[] containing = new boolean[documentCount];
+            int documentFrequency = 0;
+            for (int field = 0; field < fieldCount; field++) {
+                Map<Integer, Integer> frequencies = fieldPostings.get(field);
+                int[] postingDocumentIds = new int[frequencies.size()];
+                int[] postingTermFrequencies = new int[frequencies.size()];
+                int i = 0;
+                for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+                    postingDocumentIds[i] = entry.getKey();
+                    postingTermFrequencies[i] = entry.getValue();
+                    i++;
+                    if (!containing[entry.getKey()]) {
+                        containing[entry.getKey()] = true;
+                        documentFrequency++;
+                    }
+                }
+                postingDocuments[term][field] = postingDocumentIds;
+                postingFrequencies[term][field] = postingTermFrequencies;
+            }
+            idfs[term] = (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query        The query.
+     * @param fieldWeights The weight of every field, zero to not search a field.
+     * @return The ids of the matching documents, the best match first.
+     */
+    public int[] search(String query, float[] fieldWeights) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new int[0];
+        }
+
+        float[] scores = new float[documentCount];
+        int[] matchedTokens = new int[documentCount];
+        float[] tokenScores = new float[documentCount];
+        for (int i = 0; i < tokens.size(); i++) {
+            Arrays.fill(tokenScores, 0);
+            boolean last = i == tokens.size() - 1;
+            String token = tokens.get(i);
+            for (int term : findTerms(token, last)) {
+                float factor = terms[term].equals(token) ? 1 : PREFIX_MATCH_FACTOR;
+                scoreTerm(term, factor, fieldWeights, tokenScores);
+            }
+            for (int document = 0; document < documentCount; document++) {
+                if (tokenScores[document] > 0) {
+                    scores[document] += tokenScores[document];
+                    matchedTokens[document]++;
+                }
+            }
+        }
+
+        Map<Integer, Float> matches = new HashMap<>();
+        for (int document = 0; document < documentCount; document++) {
+            if (matchedTokens[document] == tokens.size()) {
+                matches.put(document, scores[document]);
+            }
+        }
+        return matches
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.<Integer, Float>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+    }
+
+    /**
+     * Adds the score of the given term to the given token scores of the documents, keeping the best term if a token
+     * is expanded to several terms.
+     */
+    private void scoreTerm(int term, float factor, float[] fieldWeights, float[] tokenScores) {
+        float[] termScores = new float[documentCount];
+        for (int field = 0; field < fieldCount; field++) {
+            float weight = factor * fieldWeights[field];
+            if (weight <= 0) {
+                continue;
+            }
+            int[] documents = postingDocuments[term][field];
+            int[] frequencies = postingFrequencies[term][field];
+            for (int i = 0; i < documents.length; i++) {
+                int frequency = frequencies[i];
+                termScores[documents[i]] += weight * idfs[term]
+                        * frequency * (K1 + 1) / (frequency + lengthNorms[field][documents[i]]);
+            }
+        }
+        for (int document = 0; document < documentCount; document++) {
+            tokenScores[document] = Math.max(tokenScores[document], termScores[document]);
+        }
+    }
+
+    /**
+     * Finds the ids of the terms that match the given token exactly or, if prefixes are allowed, by prefix.
+     */
+    private List<Integer> findTerms(String token, boolean allowPrefix) {
+        int index = Arrays.binarySearch(terms, token);
+        if (!allowPrefix) {
+            return (index >= 0) ? List.of(index) : List.of();
+        }
+
+        List<Integer> result = new ArrayList<>();
+        for (int i = (index >= 0) ? index : -index - 1;
+                (i < terms.length) && terms[i].startsWith(token) && (result.size() < MAX_PREFIX_EXPANSIONS);
+                i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    /**
+     * Splits the given text into case-folded tokens of letters and digits.
+     *
+     * @param text The text.
+     * @return The tokens of the text.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenCharacter = (i < text.length()) && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenCharacter && (start < 0)) {
+                start = i;
+            } else if (!tokenCharacter && (start >= 0)) {
+                tokens.add(TrigramIndex.fold(text.substring(start, i)));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+}
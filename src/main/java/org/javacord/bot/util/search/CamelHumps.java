@@ -0,0 +1,104 @@
+package org.javacord.bot.util.search;
+
+/**
+ * Matches abbreviations against camel case identifiers, like "gMBI" against "getMessageById".
+ *
+ * <p>An identifier is split into humps at upper case letters and after non-alphanumeric characters. Every query
+ * character continues the current hump or starts at a later hump, humps may be skipped, and case is ignored.
+ */
+public final class CamelHumps {
+
+    /**
+     * The result if an abbreviation does not match.
+     */
+    public static final int NO_MATCH = -1;
+
+    private CamelHumps() { /* nope */ }
+
+    /**
+     * Matches the query as abbreviation against the given identifier.
+     *
+     * @param query      The query, for example "gMBI".
+     * @param identifier The identifier, for example "getMessageById".
+     * @return The index of the hump at which the match starts or {@link #NO_MATCH} if the query does not match.
+     */
+    public static int match(String query, String identifier) {
+        if (query.isEmpty()) {
+            return NO_MATCH;
+        }
+        int hump = 0;
+        for (int i = 0; i < identifier.length(); i++) {
+            if (isHumpStart(identifier, i)) {
+                if (matchesFrom(query, 0, identifier, i)) {
+                    return hump;
+                }
+                hump++;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Checks whether the rest of the query matches, starting with its next character at the given hump start.
+     */
+    private static boolean matchesFrom(String query, int queryIndex, String identifier, int humpStart) {
+        int length = 0;
+        while ((queryIndex + length < query.length())
+                && (humpStart + length < identifier.length())
+                && equalsIgnoreCase(query.charAt(queryIndex + length), identifier.charAt(humpStart + length))
+                && ((length == 0) || !isHumpStart(identifier, humpStart + length))) {
+            length++;
+        }
+        if (length == 0) {
+            return false;
+        }
+        if (queryIndex + length == query.length()) {
+            return true;
+        }
+
+        // prefer consuming as much as possible of this hump, but backtrack if the rest does not fit
+        for (int consumed = length; consumed > 0; consumed--) {
+            int nextQueryIndex = queryIndex + consumed;
+            for (int i = humpStart + consumed; i < identifier.length(); i++) {
+                if (isHumpStart(identifier, i)
+                        && equalsIgnoreCase(query.charAt(nextQueryIndex), identifier.charAt(i))
+                        && matchesFrom(query, nextQueryIndex, identifier, i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a hump of the identifier starts at the given index.
+     *
+     * @param identifier The identifier.
+     * @param index      The index.
+     * @return Whether a hump starts at the given index.
+     */
+    public static boolean isHumpStart(String identifier, int index) {
+        char current = identifier.charAt(index);
+        if (!Character.isLetterOrDigit(current)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        char previous = identifier.charAt(index - 1);
+        if (!Character.isLetterOrDigit(previous)) {
+            return true;
+        }
+        if (Character.isUpperCase(current)) {
+            // the start of a word after a lower case word or the last capital of an acronym like "URLParser"
+            return !Character.isUpperCase(previous)
+                    || ((index + 1 < identifier.length()) && Character.isLowerCase(identifier.charAt(index + 1)));
+        }
+        return Character.isDigit(current) && !Character.isDigit(previous);
+    }
+
+    private static boolean equalsIgnoreCase(char char1, char char2) {
+        return (char1 == char2) || (Character.toLowerCase(char1) == Character.toLowerCase(char2));
+    }
+
+}
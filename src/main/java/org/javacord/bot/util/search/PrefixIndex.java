@@ -0,0 +1,122 @@
+package org.javacord.bot.util.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A sorted array of case-folded keys for fast prefix lookups, used to answer autocomplete requests.
+ *
+ * <p>Every key maps to a value that is suggested if the key starts with the typed prefix. A lookup is a binary search
+ * for the first matching key followed by a bounded scan over the following keys, so it takes microseconds even for
+ * large indices and short prefixes.
+ *
+ * <p>Instances are immutable and can be shared between concurrent lookups.
+ */
+public class PrefixIndex {
+
+    /**
+     * The maximum amount of keys that are considered for one lookup.
+     */
+    private static final int MAX_SCANNED_KEYS = 2048;
+
+    private final String[] keys;
+    private final String[] values;
+
+    private PrefixIndex(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Gets the suggestions for the given prefix, the shortest values first.
+     *
+     * @param prefix The typed prefix.
+     * @param limit  The maximum amount of suggestions.
+     * @return The distinct values of the keys that start with the given prefix.
+     */
+    public List<String> complete(String prefix, int limit) {
+        String foldedPrefix = TrigramIndex.fold(prefix);
+        // binary search for the first key that is not smaller than the prefix
+        int index = 0;
+        int high = keys.length;
+        while (index < high) {
+            int middle = (index + high) >>> 1;
+            if (keys[middle].compareTo(foldedPrefix) < 0) {
+                index = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        TopK<String> topValues = new TopK<>(limit * 2, Comparator.naturalOrder());
+        int end = Math.min(keys.length, index + MAX_SCANNED_KEYS);
+        while ((index < end) && keys[index].startsWith(foldedPrefix)) {
+            topValues.offer(values[index], -values[index].length());
+            index++;
+        }
+
+        // several keys can map to the same value
+        Set<String> suggestions = new LinkedHashSet<>(topValues.toSortedList());
+        List<String> result = new ArrayList<>(limit);
+        for (String suggestion : suggestions) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(suggestion);
+        }
+        return result;
+    }
+
+    /**
+     * A builder for prefix indices.
+     */
+    public static class Builder {
+        private final List<String[]> entries = new ArrayList<>();
+
+        /**
+         * Adds a value that is found by prefixes of its own case-folded form.
+         *
+         * @param value The value.
+         * @return The builder for call chaining.
+         */
+        public Builder add(String value) {
+            return add(value, value);
+        }
+
+        /**
+         * Adds a value that is found by prefixes of the case-folded key.
+         *
+         * @param key   The key.
+         * @param value The value.
+         * @return The builder for call chaining.
+         */
+        public Builder add(String key, String value) {
+            entries.add(new String[]{TrigramIndex.fold(key), value});
+            return this;
+        }
+
+        /**
+         * Builds the prefix index.
+         *
+         * @return The prefix index.
+         */
+        public PrefixIndex build() {
+            entries.sort(Comparator.<String[], String>comparing(entry -> entry[0]).thenComparing(entry -> entry[1]));
+            List<String> keys = new ArrayList<>(entries.size());
+            List<String> values = new ArrayList<>(entries.size());
+            String[] previous = null;
+            for (String[] entry : entries) {
+                if ((previous == null) || !previous[0].equals(entry[0]) || !previous[1].equals(entry[1])) {
+                    keys.add(entry[0]);
+                    values.add(entry[1]);
+                }
+                previous = entry;
+            }
+            return new PrefixIndex(keys.toArray(new String[0]), values.toArray(new String[0]));
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.javacord.bot.util.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the best scored elements out of an arbitrary number of offered elements with a bounded heap.
+ *
+ * <p>Only the best {@code limit} elements are ever held, so selecting them costs {@code O(n log limit)} instead of
+ * materializing and sorting all {@code n} elements.
+ *
+ * @param <T> The type of the elements.
+ */
+public class TopK<T> {
+
+    private final int limit;
+    private final Comparator<? super T> tieBreaker;
+    private final Comparator<Scored<T>> worstFirst;
+    private final PriorityQueue<Scored<T>> heap;
+    private int offeredCount;
+
+    /**
+     * Creates a new top-k selection.
+     *
+     * @param limit      The maximum amount of elements to select, must be positive.
+     * @param tieBreaker The order of elements with the same score, the smaller element is the better one.
+     */
+    public TopK(int limit, Comparator<? super T> tieBreaker) {
+        this.limit = limit;
+        this.tieBreaker = tieBreaker;
+        Comparator<Scored<T>> byElement = (scored1, scored2) -> tieBreaker.compare(scored1.element, scored2.element);
+        worstFirst = Comparator
+                .<Scored<T>>comparingInt(scored -> scored.score)
+                .thenComparing(byElement.reversed());
+        heap = new PriorityQueue<>(limit + 1, worstFirst);
+    }
+
+    /**
+     * Offers an element with its score.
+     *
+     * @param element The element.
+     * @param score   The score of the element, higher is better.
+     */
+    public void offer(T element, int score) {
+        offeredCount++;
+        if (heap.size() == limit) {
+            Scored<T> worst = heap.peek();
+            if ((score < worst.score)
+                    || ((score == worst.score) && (tieBreaker.compare(element, worst.element) >= 0))) {
+                return;
+            }
+            heap.poll();
+        }
+        heap.add(new Scored<>(element, score));
+    }
+
+    /**
+     * Gets the total amount of elements that have been offered.
+     *
+     * @return The total amount of elements that have been offered.
+     */
+    public int getOfferedCount() {
+        return offeredCount;
+    }
+
+    /**
+     * Gets the selected elements, the best first.
+     *
+     * @return The selected elements, the best first.
+     */
+    public List<T> toSortedList() {
+        List<Scored<T>> sorted = new ArrayList<>(heap);
+        sorted.sort(worstFirst.reversed());
+        List<T> result = new ArrayList<>(sorted.size());
+        for (Scored<T> scored : sorted) {
+            result.add(scored.element);
+        }
+        return result;
+    }
+
+    private static class Scored<T> {
+        private final T element;
+        private final int score;
+
+        private Scored(T element, int score) {
+            this.element = element;
+            this.score = score;
+        }
+    }
+
+}
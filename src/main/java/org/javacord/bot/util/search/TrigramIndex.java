@@ -0,0 +1,208 @@
+package org.javacord.bot.util.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An inverted trigram index for case-insensitive substring search over a fixed list of strings.
+ *
+ * <p>Every string gets the id of its position in the list. For each trigram (three consecutive characters) of the
+ * case-folded strings, the index keeps a sorted posting list of the ids of all strings that contain it. A substring
+ * query is answered by intersecting the posting lists of all trigrams of the query and only checking the few
+ * remaining candidates. Queries shorter than a trigram fall back to checking every string.
+ *
+ * <p>Instances are immutable and can be shared between concurrent queries.
+ */
+public class TrigramIndex {
+
+    private static final int[] NO_IDS = new int[0];
+
+    /**
+     * The case-folded strings, indexed by id.
+     */
+    private final String[] keys;
+
+    /**
+     * The sorted, packed trigrams that occur in any of the keys.
+     */
+    private final long[] trigrams;
+
+    /**
+     * The sorted ids of the keys that contain a trigram, in the same order as {@link #trigrams}.
+     */
+    private final int[][] postings;
+
+    /**
+     * Creates a new trigram index.
+     *
+     * @param strings The strings to index. The id of a string is its position in the list.
+     */
+    public TrigramIndex(List<String> strings) {
+        keys = new String[strings.size()];
+        Map<Long, IntList> postingsByTrigram = new HashMap<>();
+        for (int id = 0; id < keys.length; id++) {
+            String key = fold(strings.get(id));
+            keys[id] = key;
+            for (int i = 0; i + 3 <= key.length(); i++) {
+                IntList idList = postingsByTrigram.computeIfAbsent(trigramAt(key, i), trigram -> new IntList());
+                // ids are added in ascending order, so the same id can only be the last element
+                if (idList.isEmpty() || idList.last() != id) {
+                    idList.add(id);
+                }
+            }
+        }
+
+        trigrams = new long[postingsByTrigram.size()];
+        int i = 0;
+        for (long trigram : postingsByTrigram.keySet()) {
+            trigrams[i++] = trigram;
+        }
+        Arrays.sort(trigrams);
+        postings = new int[trigrams.length][];
+        for (i = 0; i < trigrams.length; i++) {
+            postings[i] = postingsByTrigram.get(trigrams[i]).toArray();
+        }
+    }
+
+    /**
+     * Folds the case of a string the same way the index does.
+     *
+     * @param string The string to fold.
+     * @return The case-folded string.
+     */
+    public static String fold(String string) {
+        return string.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the number of indexed strings.
+     *
+     * @return The number of indexed strings.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the case-folded string with the given id.
+     *
+     * @param id The id of the string.
+     * @return The case-folded string.
+     */
+    public String getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Finds all strings that contain the given query, ignoring case.
+     *
+     * @param query The substring to search for.
+     * @return The ascending ids of all matching strings.
+     */
+    public int[] search(String query) {
+        String foldedQuery = fold(query);
+        if (foldedQuery.length() < 3) {
+            return scan(foldedQuery);
+        }
+
+        // collect the posting lists of all trigrams of the query, the rarest first
+        int trigramCount = foldedQuery.length() - 2;
+        int[][] queryPostings = new int[trigramCount][];
+        for (int i = 0; i < trigramCount; i++) {
+            int position = Arrays.binarySearch(trigrams, trigramAt(foldedQuery, i));
+            if (position < 0) {
+                return NO_IDS;
+            }
+            queryPostings[i] = postings[position];
+        }
+        Arrays.sort(queryPostings, (postings1, postings2) -> Integer.compare(postings1.length, postings2.length));
+
+        int[] candidates = queryPostings[0].clone();
+        int candidateCount = candidates.length;
+        for (int i = 1; (i < trigramCount) && (candidateCount > 0); i++) {
+            if (queryPostings[i] != queryPostings[i - 1]) {
+                candidateCount = intersect(candidates, candidateCount, queryPostings[i]);
+            }
+        }
+
+        // the trigrams only guarantee that all parts of the query occur, not that they are consecutive
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int id = candidates[i];
+            if (keys[id].contains(foldedQuery)) {
+                candidates[matchCount++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, matchCount);
+    }
+
+    private int[] scan(String foldedQuery) {
+        IntList matches = new IntList();
+        for (int id = 0; id < keys.length; id++) {
+            if (keys[id].contains(foldedQuery)) {
+                matches.add(id);
+            }
+        }
+        return matches.toArray();
+    }
+
+    /**
+     * Intersects the first elements of the candidates in place with the given posting list.
+     *
+     * @param candidates     The sorted candidates, the intersection is written to the start of this array.
+     * @param candidateCount The number of valid candidates.
+     * @param postingList    The sorted posting list.
+     * @return The number of candidates that remain.
+     */
+    private static int intersect(int[] candidates, int candidateCount, int[] postingList) {
+        int remaining = 0;
+        int postingIndex = 0;
+        for (int i = 0; (i < candidateCount) && (postingIndex < postingList.length); i++) {
+            int candidate = candidates[i];
+            while ((postingIndex < postingList.length) && (postingList[postingIndex] < candidate)) {
+                postingIndex++;
+            }
+            if ((postingIndex < postingList.length) && (postingList[postingIndex] == candidate)) {
+                candidates[remaining++] = candidate;
+            }
+        }
+        return remaining;
+    }
+
+    private static long trigramAt(String string, int index) {
+        return ((long) string.charAt(index) << 32)
+                | ((long) string.charAt(index + 1) << 16)
+                | string.charAt(index + 2);
+    }
+
+    /**
+     * A minimal growable list of primitive ints.
+     */
+    private static class IntList {
+        private int[] elements = new int[4];
+        private int count;
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+
+        private int last() {
+            return elements[count - 1];
+        }
+
+        private void add(int element) {
+            if (count == elements.length) {
+                elements = Arrays.copyOf(elements, count * 2);
+            }
+            elements[count++] = element;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(elements, count);
+        }
+    }
+
+}
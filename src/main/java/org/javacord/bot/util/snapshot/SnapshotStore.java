@@ -0,0 +1,336 @@
+package org.javacord.bot.util.snapshot;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.logging.log4j.Logger;
+import org.javacord.bot.util.BotExecutor;
+import org.javacord.bot.util.StringPool;
+import org.javacord.bot.util.javadoc.JavadocIndex;
+import org.javacord.bot.util.javadoc.parser.JavadocClass;
+import org.javacord.bot.util.javadoc.parser.JavadocMethod;
+import org.javacord.bot.util.javadoc.parser.JavadocParser;
+import org.javacord.bot.util.wiki.parser.WikiPage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persists the parsed documentation indices to a binary snapshot file on local disk.
+ *
+ * <p>The snapshot is read once through a memory-mapped file, so the bot can answer documentation queries right after
+ * a restart and even while the documentation sources are unreachable. Whenever a new generation of an index is
+ * loaded, the snapshot is rewritten in the background. The header holds the length and a checksum of the contents, so
+ * truncated or corrupted snapshots are ignored.
+ *
+ * <p>The location of the file can be configured with the {@value #SNAPSHOT_FILE_PROPERTY} system property.
+ */
+@ApplicationScoped
+public class SnapshotStore {
+    /**
+     * The system property to configure the location of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE_PROPERTY = "javacord.bot.snapshotFile";
+
+    private static final int MAGIC = 0x4A43_4253; // "JCBS"
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * The size of the header with magic, format version, content length and content checksum.
+     */
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES;
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    BotExecutor executor;
+
+    private final Path snapshotFile = Paths.get(System.getProperty(SNAPSHOT_FILE_PROPERTY, "javacord-bot.snapshot"));
+
+    private final Map<String, JavadocIndex> javadocIndices = new ConcurrentHashMap<>();
+    private volatile List<WikiPage> wikiPages;
+
+    private boolean loaded;
+
+    /**
+     * Gets the javadoc indices of the snapshot, keyed by artifact type.
+     *
+     * @return The javadoc indices of the snapshot.
+     */
+    public Map<String, JavadocIndex> getJavadocIndices() {
+        ensureLoaded();
+        return Map.copyOf(javadocIndices);
+    }
+
+    /**
+     * Gets the wiki pages of the snapshot.
+     *
+     * @return The wiki pages of the snapshot if there are any.
+     */
+    public Optional<List<WikiPage>> getWikiPages() {
+        ensureLoaded();
+        return Optional.ofNullable(wikiPages);
+    }
+
+    /**
+     * Replaces the javadoc index of the index' artifact type and schedules writing the snapshot.
+     *
+     * @param index The new javadoc index.
+     */
+    public void updateJavadocIndex(JavadocIndex index) {
+        ensureLoaded();
+        javadocIndices.put(index.getType(), index);
+        scheduleWrite();
+    }
+
+    /**
+     * Replaces the wiki pages and schedules writing the snapshot.
+     *
+     * @param pages The new wiki pages.
+     */
+    public void updateWikiPages(List<WikiPage> pages) {
+        ensureLoaded();
+        wikiPages = pages;
+        scheduleWrite();
+    }
+
+    private synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isRegularFile(snapshotFile)) {
+            logger.info("No documentation snapshot found at {}", snapshotFile);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if ((buffer.remaining() < HEADER_SIZE)
+                    || (buffer.getInt() != MAGIC) || (buffer.getInt() != FORMAT_VERSION)) {
+                logger.warn("Ignoring documentation snapshot {} with unknown format", snapshotFile);
+                return;
+            }
+            long contentLength = buffer.getLong();
+            long contentChecksum = buffer.getLong();
+            if (contentLength != buffer.remaining()) {
+                logger.warn("Ignoring truncated documentation snapshot {}", snapshotFile);
+                return;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(buffer.duplicate());
+            if (checksum.getValue() != contentChecksum) {
+                logger.warn("Ignoring corrupted documentation snapshot {}", snapshotFile);
+                return;
+            }
+            StringPool stringPool = new StringPool();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                JavadocIndex index = readJavadocIndex(buffer, stringPool);
+                javadocIndices.put(index.getType(), index);
+            }
+            if (buffer.get() != 0) {
+                wikiPages = readWikiPages(buffer);
+            }
+            logger.info("Loaded documentation snapshot {} in {} ms",
+                    snapshotFile, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            javadocIndices.clear();
+            wikiPages = null;
+            logger
+                    .atWarn()
+                    .withThrowable(e)
+                    .log("Ignoring unreadable documentation snapshot {}", snapshotFile);
+        }
+    }
+
+    private void scheduleWrite() {
+        CompletableFuture<Void> write;
+        try {
+            write = CompletableFuture.runAsync(this::write, executor);
+        } catch (RejectedExecutionException ree) {
+            // the snapshot is only a cache, it is written with the next update
+            logger.warn("Skipped writing the documentation snapshot: {}", ree.getMessage());
+            return;
+        }
+        write
+                .whenComplete((__, throwable) -> {
+                    if (throwable != null) {
+                        logger
+                                .atError()
+                                .withThrowable(throwable)
+                                .log("Exception while writing the documentation snapshot");
+                    }
+                });
+    }
+
+    private synchronized void write() {
+        Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // the contents are written after the header, which is filled in once their length and checksum are known
+            channel.position(HEADER_SIZE);
+            CRC32C checksum = new CRC32C();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum)));
+            Collection<JavadocIndex> indices = javadocIndices.values();
+            out.writeInt(indices.size());
+            for (JavadocIndex index : indices) {
+                writeJavadocIndex(out, index);
+            }
+            List<WikiPage> pages = wikiPages;
+            out.writeBoolean(pages != null);
+            if (pages != null) {
+                writeWikiPages(out, pages);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer
+                    .allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(out.size())
+                    .putLong(checksum.getValue())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error while writing the documentation snapshot", e);
+        }
+
+        try {
+            Files.move(temporaryFile, snapshotFile,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Error while replacing the documentation snapshot", e);
+        }
+    }
+
+    private static void writeJavadocIndex(DataOutputStream out, JavadocIndex index) throws IOException {
+        writeString(out, index.getType());
+        writeString(out, index.getVersion());
+        List<JavadocMethod> methods = index.getMethods();
+        out.writeInt(methods.size());
+        for (JavadocMethod method : methods) {
+            writeString(out, method.getName());
+            writeString(out, method.getClassName());
+            writeString(out, method.getPackageName());
+            writeString(out, method.getAnchor());
+        }
+        List<JavadocClass> classes = index.getClasses();
+        out.writeInt(classes.size());
+        for (JavadocClass clazz : classes) {
+            writeString(out, clazz.getName());
+            writeString(out, clazz.getPackageName());
+        }
+    }
+
+    private static JavadocIndex readJavadocIndex(ByteBuffer buffer, StringPool stringPool) {
+        String type = readString(buffer);
+        String version = readString(buffer);
+        String baseUrl = JavadocParser.getDocsUrl(type);
+        List<JavadocMethod> methods = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            String name = stringPool.intern(readString(buffer));
+            String className = stringPool.intern(readString(buffer));
+            String packageName = stringPool.intern(readString(buffer));
+            methods.add(new JavadocMethod(
+                    stringPool.intern(JavadocClass.getUrl(baseUrl, packageName, className)),
+                    name,
+                    className,
+                    packageName,
+                    readString(buffer)));
+        }
+        List<JavadocClass> classes = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            String name = stringPool.intern(readString(buffer));
+            String packageName = stringPool.intern(readString(buffer));
+            classes.add(new JavadocClass(
+                    stringPool.intern(JavadocClass.getUrl(baseUrl, packageName, name)),
+                    name,
+                    packageName));
+        }
+        return new JavadocIndex(type, version, methods, classes);
+    }
+
+    private static void writeWikiPages(DataOutputStream out, List<WikiPage> pages) throws IOException {
+        out.writeInt(pages.size());
+        for (WikiPage page : pages) {
+            writeString(out, page.getTitle());
+            String[] keywords = page.getKeywords();
+            out.writeInt(keywords.length);
+            for (String keyword : keywords) {
+                writeString(out, keyword);
+            }
+            writeString(out, page.getPath());
+            writeString(out, page.getContent());
+        }
+    }
+
+    private static List<WikiPage> readWikiPages(ByteBuffer buffer) {
+        List<WikiPage> pages = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            String title = readString(buffer);
+            String[] keywords = new String[readLength(buffer, Integer.BYTES)];
+            for (int j = 0; j < keywords.length; j++) {
+                keywords[j] = readString(buffer);
+            }
+            String path = readString(buffer);
+            String content = readString(buffer);
+            pages.add(new WikiPage(title, keywords, path, content));
+        }
+        return pages;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads the length of an array and checks that the rest of the buffer can hold it, so a corrupted length does not
+     * allocate huge arrays.
+     *
+     * @param buffer      The buffer to read from.
+     * @param elementSize The minimum amount of bytes every element takes in the buffer.
+     * @return The length of the array.
+     */
+    private static int readLength(ByteBuffer buffer, int elementSize) {
+        int length = buffer.getInt();
+        if ((length < 0) || (length > buffer.remaining() / elementSize)) {
+            throw new IllegalStateException(String.format(
+                    "Invalid length %d with %d bytes remaining", length, buffer.remaining()));
+        }
+        return length;
+    }
+}
@@ -0,0 +1,109 @@
+package org.javacord.bot.util.wiki;
+
+import org.javacord.bot.util.search.Bm25Index;
+import org.javacord.bot.util.search.PrefixIndex;
+import org.javacord.bot.util.wiki.parser.WikiPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents one loaded generation of the wiki page list.
+ *
+ * <p>The titles, keywords and contents of the pages are indexed once per generation, so a search only walks the
+ * postings of the query terms instead of scanning every page.
+ *
+ * <p>Instances are immutable and can be shared between concurrent queries.
+ */
+public class WikiIndex {
+
+    /**
+     * The weights of the title, keywords and content fields, a match in the title is most relevant.
+     */
+    private static final float TITLE_WEIGHT = 3;
+    private static final float KEYWORDS_WEIGHT = 2;
+    private static final float CONTENT_WEIGHT = 1;
+
+    private final List<WikiPage> pages;
+    private final PrefixIndex completions;
+    private final Bm25Index searchIndex;
+
+    /**
+     * Creates a new wiki index.
+     *
+     * @param pages All pages of the wiki.
+     */
+    public WikiIndex(Collection<WikiPage> pages) {
+        // sorted by title, so equally relevant search results are listed alphabetically
+        this.pages = pages.stream().sorted().collect(Collectors.toUnmodifiableList());
+
+        PrefixIndex.Builder completionsBuilder = new PrefixIndex.Builder();
+        for (WikiPage page : this.pages) {
+            String title = page.getTitle();
+            // also suggest titles for prefixes of later words, like "commands" for "Slash Commands"
+            for (int i = 0; i < title.length(); i++) {
+                if ((i == 0) || (title.charAt(i - 1) == ' ')) {
+                    completionsBuilder.add(title.substring(i), title);
+                }
+            }
+            for (String keyword : page.getKeywords()) {
+                completionsBuilder.add(keyword);
+            }
+        }
+        completions = completionsBuilder.build();
+
+        List<String[]> documents = new ArrayList<>(this.pages.size());
+        for (WikiPage page : this.pages) {
+            documents.add(new String[]{
+                    page.getTitle(),
+                    String.join(" ", page.getKeywords()),
+                    page.getPlainContent()
+            });
+        }
+        searchIndex = new Bm25Index(documents);
+    }
+
+    /**
+     * Gets all pages of the wiki.
+     *
+     * @return All pages of the wiki.
+     */
+    public List<WikiPage> getPages() {
+        return pages;
+    }
+
+    /**
+     * Searches the pages.
+     *
+     * @param searchTerm       The search term.
+     * @param searchInKeywords Whether to search in the keywords of the pages.
+     * @param searchInTitles   Whether to search in the titles of the pages.
+     * @param searchInContents Whether to search in the contents of the pages.
+     * @return The matching pages, the most relevant first.
+     */
+    public List<WikiPage> search(String searchTerm, boolean searchInKeywords,
+                                 boolean searchInTitles, boolean searchInContents) {
+        float[] fieldWeights = {
+                searchInTitles ? TITLE_WEIGHT : 0,
+                searchInKeywords ? KEYWORDS_WEIGHT : 0,
+                searchInContents ? CONTENT_WEIGHT : 0
+        };
+        return Arrays
+                .stream(searchIndex.search(searchTerm, fieldWeights))
+                .mapToObj(pages::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the autocomplete suggestions for search terms, which are the page titles and keywords.
+     *
+     * @return The autocomplete suggestions for search terms.
+     */
+    public PrefixIndex getCompletions() {
+        return completions;
+    }
+
+}
@@ -0,0 +1,175 @@
+package org.javacord.bot.util.wiki;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import okhttp3.OkHttpClient;
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.bot.util.BotExecutor;
+import org.javacord.bot.util.Deadline;
+import org.javacord.bot.util.MetricsRegistry;
+import org.javacord.bot.util.SingleFlight;
+import org.javacord.bot.util.http.CircuitBreakerRegistry;
+import org.javacord.bot.util.http.UpstreamUnavailableException;
+import org.javacord.bot.util.snapshot.SnapshotStore;
+import org.javacord.bot.util.wiki.parser.WikiPage;
+import org.javacord.bot.util.wiki.parser.WikiParser;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps the page list of the wiki in memory.
+ *
+ * <p>On startup the last persisted snapshot is served right away. Once the page list is older than its time to
+ * live, the next request triggers a background refresh, so queries never wait for the wiki unless no page list is
+ * available at all. A refresh revalidates the cached page list, and if it has not been modified, the current index
+ * is kept without parsing the page list again. While the wiki is unavailable, the last loaded index is served.
+ *
+ * <p>The time to live can be configured with the {@value #TTL_PROPERTY} system property as ISO-8601 duration.
+ */
+@ApplicationScoped
+public class WikiIndexService {
+    /**
+     * The system property to configure the time to live of the wiki page list.
+     */
+    public static final String TTL_PROPERTY = "javacord.bot.wikiTtl";
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    BotExecutor executor;
+
+    @Inject
+    OkHttpClient httpClient;
+
+    @Inject
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @Inject
+    MetricsRegistry metrics;
+
+    private final Duration ttl = Duration.parse(System.getProperty(TTL_PROPERTY, "PT1H"));
+
+    private volatile WikiIndex currentIndex;
+
+    /**
+     * The {@link System#nanoTime()} at which the current index expires.
+     */
+    private volatile long expirationNanos = System.nanoTime();
+
+    /**
+     * The refresh that is currently in progress.
+     */
+    private final SingleFlight<String, WikiIndex> pendingRefresh = new SingleFlight<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        metrics.register("wikiRefreshes", pendingRefresh);
+    }
+
+    void loadSnapshot(@Observes @Initialized(ApplicationScoped.class) Object unused) {
+        snapshotStore.getWikiPages().ifPresent(pages -> {
+            currentIndex = new WikiIndex(pages);
+            logContentSize(currentIndex);
+            logger.info("Wiki index with {} pages available {} ms after startup from snapshot",
+                    pages.size(), ManagementFactory.getRuntimeMXBean().getUptime());
+        });
+        refresh();
+    }
+
+    /**
+     * Gets the current wiki index.
+     *
+     * <p>If an index is available, it is returned immediately. If it is older than its time to live, a refresh is
+     * started in the background. If no index is available and the deadline passes while it is still being loaded,
+     * the load is cancelled unless somebody else waits for it.
+     *
+     * @param deadline The deadline of the command that needs the index.
+     * @return The current wiki index.
+     */
+    public CompletableFuture<WikiIndex> getIndex(Deadline deadline) {
+        WikiIndex current = currentIndex;
+        if (current == null) {
+            return deadline.bound(refresh());
+        }
+        if (System.nanoTime() - expirationNanos > 0) {
+            refresh();
+        }
+        return CompletableFuture.completedFuture(current);
+    }
+
+    /**
+     * Gets the wiki index that is currently in memory, without triggering a refresh.
+     *
+     * @return The current wiki index if one is loaded.
+     */
+    public Optional<WikiIndex> getCurrentIndex() {
+        return Optional.ofNullable(currentIndex);
+    }
+
+    private CompletableFuture<WikiIndex> refresh() {
+        return pendingRefresh.execute(WikiParser.API_URL, () -> {
+            WikiIndex current = currentIndex;
+            WikiParser parser = new WikiParser(executor, httpClient);
+            CompletableFuture<WikiIndex> refresh = circuitBreakers
+                    .get(CircuitBreakerRegistry.WIKI)
+                    .execute(() -> (current == null)
+                            ? parser.getPages().thenApply(Optional::of)
+                            : parser.getPagesIfModified())
+                    .thenApply(pages -> pages.map(WikiIndex::new).orElse(current))
+                    .whenComplete((index, throwable) -> {
+                        if (ExceptionLogger.unwrapThrowable(throwable) instanceof UpstreamUnavailableException) {
+                            logger.debug("Skipped refreshing the wiki index: {}", throwable.getMessage());
+                            return;
+                        }
+                        if (ExceptionLogger.unwrapThrowable(throwable) instanceof CancellationException) {
+                            logger.debug("Cancelled refreshing the wiki index, nobody waits for it");
+                            return;
+                        }
+                        if (throwable != null) {
+                            logger
+                                    .atError()
+                                    .withThrowable(throwable)
+                                    .log("Exception while refreshing the wiki index");
+                            return;
+                        }
+                        expirationNanos = System.nanoTime() + ttl.toNanos();
+                        if (index == current) {
+                            logger.debug("Wiki page list has not been modified");
+                            return;
+                        }
+                        if (current == null) {
+                            logger.info("Wiki index with {} pages available {} ms after startup from network",
+                                    index.getPages().size(), ManagementFactory.getRuntimeMXBean().getUptime());
+                        }
+                        logContentSize(index);
+                        currentIndex = index;
+                        snapshotStore.updateWikiPages(index.getPages());
+                    });
+            refresh.whenComplete((__, throwable) -> {
+                if (throwable instanceof CancellationException) {
+                    parser.cancel();
+                }
+            });
+            return refresh;
+        });
+    }
+
+    private void logContentSize(WikiIndex index) {
+        long contentSize = index.getPages().stream().mapToLong(WikiPage::getContentSize).sum();
+        long compressedContentSize = index.getPages().stream().mapToLong(WikiPage::getCompressedContentSize).sum();
+        logger.info("Wiki page contents take {} KiB compressed instead of {} KiB",
+                compressedContentSize / 1024, contentSize / 1024);
+    }
+}
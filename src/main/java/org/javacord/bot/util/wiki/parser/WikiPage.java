@@ -1,14 +1,47 @@
 package org.javacord.bot.util.wiki.parser;
 
+import java.io.ByteArrayOutputStream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * A class representing a page on the wiki.
+ *
+ * <p>The content is only needed to build the search index and to show the full page, so it is kept
+ * deflate-compressed and only inflated on demand. The preview is computed once when the page is created.
  */
 public class WikiPage implements Comparable<WikiPage> {
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]++>");
+    private static final Pattern END_OF_SENTENCE = Pattern.compile("\\.(?: |\\r?\\n)");
 
     private final String title;
     private final String[] keywords;
     private final String path;
-    private final String content;
+
+    /**
+     * The deflate-compressed UTF-8 bytes of the content.
+     */
+    private final byte[] compressedContent;
+
+    /**
+     * The amount of UTF-8 bytes of the uncompressed content.
+     */
+    private final int contentSize;
+
+    /**
+     * The first sentences of the content without HTML tags.
+     */
+    private final String preview;
+
+    /**
+     * Whether the preview is shorter than the content without HTML tags.
+     */
+    private final boolean previewTruncated;
 
     /**
      * Creates a new wiki page.
@@ -22,7 +55,69 @@ public class WikiPage implements Comparable<WikiPage> {
         this.title = title;
         this.keywords = keywords;
         this.path = path;
-        this.content = content;
+        byte[] contentBytes = content.getBytes(UTF_8);
+        compressedContent = compress(contentBytes);
+        contentSize = contentBytes.length;
+        String plainContent = stripHtml(content);
+        int previewLength = computePreviewLength(plainContent);
+        preview = plainContent.substring(0, previewLength);
+        previewTruncated = previewLength < plainContent.length();
+    }
+
+    /**
+     * Computes the length of the preview, which is up to three sentences as long as it is shorter than 600
+     * characters, but never longer than 1500 characters.
+     */
+    private static int computePreviewLength(String plainContent) {
+        int length = 0;
+        int sentences = 0;
+        Matcher endOfSentenceMatcher = END_OF_SENTENCE.matcher(plainContent);
+        while ((length < 600) && (sentences < 3) && endOfSentenceMatcher.find(length)) {
+            length = endOfSentenceMatcher.end();
+            sentences++;
+        }
+        return Math.min(length, 1500);
+    }
+
+    private static String stripHtml(String content) {
+        return HTML_TAG.matcher(content).replaceAll("").trim();
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] compressedBytes, int size) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedBytes);
+            byte[] bytes = new byte[size];
+            int offset = 0;
+            while (!inflater.finished() && (offset < size)) {
+                int inflated = inflater.inflate(bytes, offset, size - offset);
+                if ((inflated == 0) && inflater.needsInput()) {
+                    throw new IllegalStateException("Truncated compressed content of wiki page");
+                }
+                offset += inflated;
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed content of wiki page", e);
+        } finally {
+            inflater.end();
+        }
     }
 
     /**
@@ -55,10 +150,59 @@ public class WikiPage implements Comparable<WikiPage> {
     /**
      * Gets the content.
      *
+     * <p>The content is inflated on every call, so callers should not hold on to it longer than needed.
+     *
      * @return The content of the page.
      */
     public String getContent() {
-        return content;
+        return new String(decompress(compressedContent, contentSize), UTF_8);
+    }
+
+    /**
+     * Gets the content without HTML tags.
+     *
+     * <p>The content is inflated on every call, so callers should not hold on to it longer than needed.
+     *
+     * @return The content without HTML tags.
+     */
+    public String getPlainContent() {
+        return stripHtml(getContent());
+    }
+
+    /**
+     * Gets the amount of UTF-8 bytes of the uncompressed content.
+     *
+     * @return The amount of UTF-8 bytes of the uncompressed content.
+     */
+    public int getContentSize() {
+        return contentSize;
+    }
+
+    /**
+     * Gets the amount of bytes of the compressed content.
+     *
+     * @return The amount of bytes of the compressed content.
+     */
+    public int getCompressedContentSize() {
+        return compressedContent.length;
+    }
+
+    /**
+     * Gets the preview, which are the first sentences of the content without HTML tags.
+     *
+     * @return The preview of the page.
+     */
+    public String getPreview() {
+        return preview;
+    }
+
+    /**
+     * Checks whether the preview is shorter than the content.
+     *
+     * @return Whether the preview is shorter than the content.
+     */
+    public boolean isPreviewTruncated() {
+        return previewTruncated;
     }
 
     /**
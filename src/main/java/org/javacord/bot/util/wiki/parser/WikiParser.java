@@ -2,17 +2,21 @@ package org.javacord.bot.util.wiki.parser;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
-import org.javacord.api.DiscordApi;
+import org.javacord.bot.util.http.HttpCaching;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * A parser for the Javacord wiki.
@@ -22,29 +26,39 @@ public class WikiParser {
     public static final String API_URL = "https://javacord.org/bot-search-index.json";
     public static final String BASE_URL = "https://javacord.org"; // the /wiki/ part of the url will be returned by the API
 
-    private static final OkHttpClient client = new OkHttpClient();
     private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final DiscordApi discordApi;
+    private final Executor executor;
+    private final OkHttpClient client;
     private final String apiUrl;
 
+    /**
+     * The call that is in flight.
+     */
+    private volatile Call pendingCall;
+
+    private volatile boolean cancelled;
+
     /**
      * Creates a new wiki parser.
      *
-     * @param api The Discord Api of which to use the HTTP client.
+     * @param executor The executor to download and parse the page list on.
+     * @param client   The HTTP client to fetch the page list with.
      */
-    public WikiParser(DiscordApi api) {
-        this(api, API_URL);
+    public WikiParser(Executor executor, OkHttpClient client) {
+        this(executor, client, API_URL);
     }
 
     /**
      * Creates a new Wiki parser.
      *
-     * @param api    The Discord Api of which to use the HTTP client.
-     * @param apiUrl The URL for the json file with the page list.
+     * @param executor The executor to download and parse the page list on.
+     * @param client   The HTTP client to fetch the page list with.
+     * @param apiUrl   The URL for the json file with the page list.
      */
-    public WikiParser(DiscordApi api, String apiUrl) {
-        this.discordApi = api;
+    public WikiParser(Executor executor, OkHttpClient client, String apiUrl) {
+        this.executor = executor;
+        this.client = client;
         this.apiUrl = apiUrl;
     }
 
@@ -60,7 +74,35 @@ public class WikiParser {
             } catch (Throwable t) {
                 throw new CompletionException(t);
             }
-        }, discordApi.getThreadPool().getExecutorService());
+        }, executor);
+    }
+
+    /**
+     * Gets the pages asynchronously if they have been modified since they were last fetched.
+     *
+     * @return The pages of the wiki or an empty optional if they have not been modified.
+     */
+    public CompletableFuture<Optional<Set<WikiPage>>> getPagesIfModified() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetchPages(true);
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        }, executor);
+    }
+
+    /**
+     * Cancels the download and parsing of this parser.
+     *
+     * <p>A running download is aborted and the futures of this parser fail with a {@link CancellationException}.
+     */
+    public void cancel() {
+        cancelled = true;
+        Call call = pendingCall;
+        if (call != null) {
+            call.cancel();
+        }
     }
 
     /**
@@ -70,12 +112,29 @@ public class WikiParser {
      * @throws IOException If the connection to the wiki failed.
      */
     public Set<WikiPage> getPagesBlocking() throws IOException {
+        return fetchPages(false).orElseThrow(AssertionError::new);
+    }
+
+    private Optional<Set<WikiPage>> fetchPages(boolean onlyIfModified) throws IOException {
         Request request = new Request.Builder()
                 .url(apiUrl)
+                .cacheControl(HttpCaching.REVALIDATE)
                 .build();
 
-        Response response = client.newCall(request).execute();
-        try (ResponseBody body = response.body()) {
+        Call call = client.newCall(request);
+        pendingCall = call;
+        if (cancelled) {
+            call.cancel();
+        }
+        try (Response response = call.execute()) {
+            if (onlyIfModified && HttpCaching.isNotModified(response)) {
+                return Optional.empty();
+            }
+            if (!response.isSuccessful()) {
+                throw new IOException(String.format(
+                        "Error while requesting %s: HTTP %d", request.url(), response.code()));
+            }
+            ResponseBody body = response.body();
             Set<WikiPage> pages = new HashSet<>();
             JsonNode array = mapper.readTree(body.charStream());
             if (!array.isArray()) {
@@ -93,7 +152,13 @@ public class WikiParser {
                     throw new AssertionError("Format of wiki page list not as expected");
                 }
             }
-            return pages;
+            return Optional.of(pages);
+        } catch (IOException e) {
+            if (call.isCanceled()) {
+                throw (CancellationException) new CancellationException("Download of the wiki page list was cancelled")
+                        .initCause(e);
+            }
+            throw e;
         }
     }
 
@@ -0,0 +1,166 @@
+package org.javacord.bot.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+
+class ExpiringLongMapTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static List<Long> keysOf(ExpiringLongMap map) {
+        List<Long> keys = new ArrayList<>();
+        map.forEach((key, value, expirationMillis) -> keys.add(key));
+        return keys;
+    }
+
+    @Test
+    void getsPutAndRemovesEntries() {
+        ExpiringLongMap map = new ExpiringLongMap(4, TTL);
+        map.put(1, 10);
+        map.put(2, 20);
+        Assertions.assertEquals(OptionalLong.of(10), map.get(1));
+        Assertions.assertEquals(OptionalLong.of(20), map.get(2));
+        Assertions.assertEquals(OptionalLong.empty(), map.get(3));
+
+        Assertions.assertEquals(OptionalLong.of(10), map.remove(1));
+        Assertions.assertEquals(OptionalLong.empty(), map.remove(1));
+        Assertions.assertEquals(OptionalLong.empty(), map.get(1));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void rejectsTheReservedKey() {
+        ExpiringLongMap map = new ExpiringLongMap(4, TTL);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+    }
+
+    @Test
+    void doesNotReturnExpiredEntries() {
+        ExpiringLongMap map = new ExpiringLongMap(4, TTL);
+        map.put(1, 10, System.currentTimeMillis() - 1);
+        Assertions.assertEquals(OptionalLong.empty(), map.get(1));
+        Assertions.assertEquals(List.of(), keysOf(map));
+    }
+
+    @Test
+    void evictsTheOldestEntryWhenFull() {
+        ExpiringLongMap map = new ExpiringLongMap(3, TTL);
+        map.put(1, 10);
+        map.put(2, 20);
+        map.put(3, 30);
+        // putting a present key again keeps its position
+        map.put(1, 11);
+        map.put(4, 40);
+        Assertions.assertEquals(List.of(2L, 3L, 4L), keysOf(map));
+        Assertions.assertEquals(OptionalLong.empty(), map.get(1));
+    }
+
+    @Test
+    void reportsARemovedAndReinsertedKeyOnce() {
+        ExpiringLongMap map = new ExpiringLongMap(4, TTL);
+        map.put(1, 10);
+        map.put(2, 20);
+        map.remove(1);
+        map.put(1, 11);
+        Assertions.assertEquals(List.of(2L, 1L), keysOf(map));
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    void doesNotEvictAReinsertedKeyAtItsOldPosition() {
+        ExpiringLongMap map = new ExpiringLongMap(3, TTL);
+        map.put(1, 10);
+        map.remove(1);
+        map.put(2, 20);
+        map.put(3, 30);
+        map.put(1, 11);
+        map.put(4, 40);
+        Assertions.assertEquals(OptionalLong.of(11), map.get(1));
+        Assertions.assertEquals(OptionalLong.empty(), map.get(2));
+        Assertions.assertEquals(List.of(3L, 1L, 4L), keysOf(map));
+    }
+
+    @Test
+    void doesNotEvictLiveEntriesBeforeTheMapIsFull() {
+        ExpiringLongMap map = new ExpiringLongMap(3, TTL);
+        map.put(1, 10);
+        for (long key = 2; key < 100; key++) {
+            map.put(key, key);
+            map.remove(key);
+        }
+        map.put(100, 100);
+        map.put(101, 101);
+        Assertions.assertEquals(List.of(1L, 100L, 101L), keysOf(map));
+    }
+
+    @Test
+    void behavesLikeAnInsertionOrderedMap() {
+        // a small key space makes the keys collide and exercises the deletion from the probe sequences
+        int capacity = 16;
+        ExpiringLongMap map = new ExpiringLongMap(capacity, TTL);
+        Map<Long, Long> expected = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(64) + 1;
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(
+                        expected.containsKey(key) ? OptionalLong.of(expected.remove(key)) : OptionalLong.empty(),
+                        map.remove(key));
+            } else {
+                long value = random.nextLong();
+                if (!expected.containsKey(key) && (expected.size() == capacity)) {
+                    Iterator<Long> eldest = expected.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+                expected.put(key, value);
+                map.put(key, value);
+            }
+
+            Assertions.assertEquals(expected.size(), map.size());
+            for (long k = 1; k <= 64; k++) {
+                Long value = expected.get(k);
+                Assertions.assertEquals(value == null ? OptionalLong.empty() : OptionalLong.of(value), map.get(k));
+            }
+            Assertions.assertEquals(new ArrayList<>(expected.keySet()), keysOf(map));
+        }
+    }
+
+    @Test
+    void compactsTheJournalOfAReinsertedKey() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path file = directory.resolve("responses");
+        try {
+            ExpiringLongMap map = new ExpiringLongMap(4, TTL);
+            map.put(1, 10);
+            map.put(2, 20);
+            map.remove(1);
+            map.put(1, 11);
+            try (LongMapJournal journal = new LongMapJournal(file, map)) {
+                journal.load();
+            }
+
+            ExpiringLongMap loaded = new ExpiringLongMap(4, TTL);
+            try (LongMapJournal journal = new LongMapJournal(file, loaded)) {
+                journal.load();
+            }
+            Assertions.assertEquals(List.of(2L, 1L), keysOf(loaded));
+            Assertions.assertEquals(OptionalLong.of(11), loaded.get(1));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.javacord.bot.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class HiddenStringCodecTest {
+
+    private static final String[] SAMPLES = {
+            "/docs search: getMessagesAfterUntil",
+            "/wiki search: gateway intents",
+            "/docs search: Grüße aus Köln",
+            "/docs search: € ✓ 日本語",
+            "/docs search: 🙂 surrogate pairs 🚀",
+            "a"
+    };
+
+    /**
+     * Encodes the given string exactly like the bot did before the codec had versions, so the tests see the
+     * contents of messages that were already sent.
+     *
+     * @param text The string to encode.
+     * @return The encoded string as version 1.
+     */
+    private static String encodeLikeBaseline(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return IntStream
+                .range(0, bytes.length)
+                .map(i -> bytes[i])
+                .mapToObj(Integer::toBinaryString)
+                .collect(Collectors.joining("\u200D"))
+                .replace('0', '\u200B')
+                .replace('1', '\u200C')
+                + '\u200E';
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = random.nextInt(64); i > 0; i--) {
+            int codePoint;
+            do {
+                // mostly ASCII, but also all other planes
+                codePoint = random.nextBoolean() ? 0x20 + random.nextInt(0x5F) : random.nextInt(0x110000);
+            } while (!Character.isDefined(codePoint) || Character.isSurrogate((char) codePoint)
+                    || (Character.getType(codePoint) == Character.PRIVATE_USE));
+            builder.appendCodePoint(codePoint);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void decodesBaselineEncodedStrings() {
+        for (String sample : SAMPLES) {
+            Assertions.assertEquals(sample, HiddenStringCodec.decode(encodeLikeBaseline(sample)));
+        }
+    }
+
+    @Test
+    void decodesBaselineEncodedNonAsciiBytesAsThirtyTwoBitNumbers() {
+        String encoded = encodeLikeBaseline("ü");
+        // the baseline encoded the sign-extended negative bytes 0xC3 and 0xBC with 32 binary digits each
+        Assertions.assertEquals(2 * 32 + 1 + 1, encoded.length());
+        Assertions.assertEquals("ü", HiddenStringCodec.decode(encoded));
+    }
+
+    @Test
+    void decodesBaselineEncodedRandomStrings() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String text = randomString(random);
+            Assertions.assertEquals(text, HiddenStringCodec.decode(encodeLikeBaseline(text)));
+        }
+    }
+
+    @Test
+    void decodesBaselineEncodedStringFollowedByVisibleContent() {
+        String content = encodeLikeBaseline("/docs search: ü") + "visible text";
+        Assertions.assertEquals("/docs search: ü", HiddenStringCodec.decode(content));
+    }
+
+    @Test
+    void roundTripsVersion2() {
+        for (String sample : SAMPLES) {
+            String encoded = HiddenStringCodec.encode(sample);
+            Assertions.assertEquals(2 + 2 * sample.getBytes(StandardCharsets.UTF_8).length, encoded.length());
+            Assertions.assertEquals(sample, HiddenStringCodec.decode(encoded + "visible text"));
+        }
+    }
+
+    @Test
+    void roundTripsRandomStringsInVersion2() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 10_000; i++) {
+            String text = randomString(random);
+            Assertions.assertEquals(text, HiddenStringCodec.decode(HiddenStringCodec.encode(text)));
+        }
+    }
+
+    @Test
+    void encodesOnlyInvisibleCharacters() {
+        String encoded = HiddenStringCodec.encode("/docs search: 🙂");
+        encoded.chars().forEach(c -> Assertions.assertTrue(
+                (Character.getType(c) == Character.FORMAT) || (Character.getType(c) == Character.NON_SPACING_MARK),
+                String.format("U+%04X is visible", c)));
+    }
+
+    @Test
+    void roundTripsEmptyString() {
+        Assertions.assertEquals("", HiddenStringCodec.decode(HiddenStringCodec.encode("")));
+    }
+
+    @Test
+    void decodesBaselineEncodedEmptyString() {
+        Assertions.assertEquals("", HiddenStringCodec.decode(encodeLikeBaseline("")));
+    }
+
+    @Test
+    void rejectsContentWithoutEndMarker() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HiddenStringCodec.decode("plain content"));
+    }
+
+    @Test
+    void rejectsUnexpectedCharacters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HiddenStringCodec.decode("\u2060ab\u200E"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HiddenStringCodec.decode("x\u200E"));
+    }
+
+    @Test
+    void rejectsIncompleteVersion2Byte() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HiddenStringCodec.decode("\u2060\u200B\u200E"));
+    }
+}
@@ -0,0 +1,101 @@
+package org.javacord.bot.util.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class PrefixIndexTest {
+
+    /**
+     * The amount of methods of the generated index, more than the api and core artifacts of Javacord have together.
+     */
+    private static final int METHOD_COUNT = 40_000;
+
+    private static final String[] WORDS = {
+            "Message", "Channel", "Server", "User", "Role", "Embed", "Builder", "Event", "Listener", "Interaction",
+            "Slash", "Command", "Option", "Reaction", "Emoji", "Permission", "Thread", "Voice", "Text", "Webhook",
+            "Attachment", "Sticker", "Activity", "Status", "Cache", "Audio", "Invite", "Member", "Category", "Component"
+    };
+
+    private static final String[] VERBS = {
+            "get", "set", "add", "remove", "create", "update", "is", "has", "request", "delete", "send", "edit", "find"
+    };
+
+    /**
+     * Builds a method completion index like the one of a javadoc index, with the simple name and the name qualified
+     * by the class of every method.
+     */
+    private static PrefixIndex buildRealisticIndex() {
+        Random random = new Random(42);
+        PrefixIndex.Builder builder = new PrefixIndex.Builder();
+        for (int i = 0; i < METHOD_COUNT; i++) {
+            String className = WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)];
+            String methodName = VERBS[random.nextInt(VERBS.length)] + WORDS[random.nextInt(WORDS.length)]
+                    + (random.nextBoolean() ? WORDS[random.nextInt(WORDS.length)] : "");
+            builder.add(methodName).add(className + "#" + methodName);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void completesCaseInsensitivePrefixes() {
+        PrefixIndex index = new PrefixIndex.Builder()
+                .add("getMessageById")
+                .add("getMessages")
+                .add("sendMessage")
+                .build();
+        Assertions.assertEquals(List.of("getMessages", "getMessageById"), index.complete("GETmess", 25));
+        Assertions.assertEquals(List.of("sendMessage"), index.complete("send", 25));
+        Assertions.assertEquals(List.of(), index.complete("edit", 25));
+    }
+
+    @Test
+    void suggestsTheShortestValuesFirstUpToTheLimit() {
+        PrefixIndex index = new PrefixIndex.Builder()
+                .add("getA")
+                .add("getAbc")
+                .add("getAb")
+                .add("getAbcd")
+                .build();
+        Assertions.assertEquals(List.of("getA", "getAb"), index.complete("get", 2));
+    }
+
+    @Test
+    void suggestsValuesOfSeveralMatchingKeysOnce() {
+        PrefixIndex index = new PrefixIndex.Builder()
+                .add("getMessages")
+                .add("TextChannel#getMessages", "getMessages")
+                .add("getMessages", "getMessages")
+                .build();
+        Assertions.assertEquals(List.of("getMessages"), index.complete("", 25));
+        Assertions.assertEquals(List.of("getMessages"), index.complete("textchannel#", 25));
+    }
+
+    @Test
+    void completesWithinAMillisecondOnARealisticallySizedIndex() {
+        PrefixIndex index = buildRealisticIndex();
+        // the shortest prefixes match the most keys and are the slowest lookups
+        String[] prefixes = {"", "g", "ge", "get", "getm", "messagebuilder#", "messagebuilder#s", "x"};
+
+        // warm up, so the measurement is not dominated by the interpreter
+        for (int i = 0; i < 20_000; i++) {
+            index.complete(prefixes[i % prefixes.length], 25);
+        }
+
+        long[] durations = new long[2_000];
+        for (int i = 0; i < durations.length; i++) {
+            long start = System.nanoTime();
+            List<String> suggestions = index.complete(prefixes[i % prefixes.length], 25);
+            durations[i] = System.nanoTime() - start;
+            Assertions.assertTrue(suggestions.size() <= 25);
+        }
+        Arrays.sort(durations);
+        long medianNanos = durations[durations.length / 2];
+        long p99Nanos = durations[durations.length * 99 / 100];
+        Assertions.assertTrue(medianNanos < 1_000_000, "median lookup took " + medianNanos + " ns");
+        Assertions.assertTrue(p99Nanos < 5_000_000, "99th percentile lookup took " + p99Nanos + " ns");
+    }
+}